@@ -0,0 +1,62 @@
+package javax.util;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Listener management for <code>ObservableListXt</code> implementations. While
+ * a batch is open, changes are collected and delivered all together when it is
+ * closed.
+ *
+ * @author luca vercelli 2022
+ *
+ * @param <E>
+ */
+abstract class AbstractObservableListXt<E> extends AbstractList<E> implements ObservableListXt<E> {
+
+	private final List<ListChangeListener<E>> listeners = new ArrayList<>();
+	private List<ListChange<E>> pending = new ArrayList<>();
+	private int batchDepth;
+
+	@Override
+	public void addListener(ListChangeListener<E> listener) {
+		listeners.add(listener);
+	}
+
+	@Override
+	public void removeListener(ListChangeListener<E> listener) {
+		listeners.remove(listener);
+	}
+
+	void beginBatch() {
+		++batchDepth;
+	}
+
+	void endBatch() {
+		if (--batchDepth == 0)
+			flush();
+	}
+
+	/**
+	 * Notify a change, now or at the end of current batch.
+	 */
+	void fire(ListChange<E> change) {
+		if (listeners.isEmpty())
+			return;
+		pending.add(change);
+		if (batchDepth == 0)
+			flush();
+	}
+
+	private void flush() {
+		if (pending.isEmpty())
+			return;
+		List<ListChange<E>> changes = Collections.unmodifiableList(pending);
+		pending = new ArrayList<>();
+		// listeners may unregister themselves while being notified
+		for (ListChangeListener<E> listener : new ArrayList<>(listeners))
+			listener.onChanged(changes);
+	}
+}
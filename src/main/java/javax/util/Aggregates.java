@@ -0,0 +1,117 @@
+package javax.util;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Results of <code>ListXt.aggregate</code>, one for each given Collector. Each
+ * result can be retrieved, with its proper type, by passing the Collector
+ * itself to <code>get</code>.
+ *
+ * @author luca vercelli 2022
+ *
+ */
+public final class Aggregates {
+
+	/**
+	 * Number of elements accumulated by each task, in a parallel aggregation.
+	 */
+	static final int PARALLEL_CHUNK = 4096;
+
+	private final Collector<?, ?, ?>[] collectors;
+	private final Object[] results;
+
+	private Aggregates(Collector<?, ?, ?>[] collectors, Object[] results) {
+		this.collectors = collectors;
+		this.results = results;
+	}
+
+	/**
+	 * Return the result of given Collector.
+	 * 
+	 * @throws <code>IllegalArgumentException</code> if the collector was not
+	 * part of the aggregation
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> R get(Collector<?, ?, R> collector) {
+		for (int i = 0; i < collectors.length; ++i)
+			if (collectors[i] == collector)
+				return (R) results[i];
+		throw new IllegalArgumentException("Collector was not aggregated");
+	}
+
+	/**
+	 * Return the result of the i-th Collector.
+	 */
+	public Object get(int index) {
+		return results[index];
+	}
+
+	public int size() {
+		return results.length;
+	}
+
+	/**
+	 * Compute all collectors in a single traversal of given list. Traversal stops
+	 * as soon as all collectors are Reducer's that are done. If parallel, list is
+	 * RandomAccess and large enough, chunks of the list are accumulated in
+	 * parallel, then combined in order.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static <E> Aggregates of(List<E> list, boolean parallel, List<? extends Collector<? super E, ?, ?>> collectorList) {
+		Collector<?, ?, ?>[] collectors = collectorList.toArray(new Collector<?, ?, ?>[collectorList.size()]);
+		Object[] states;
+		if (!parallel || !(list instanceof RandomAccess) || list.size() <= PARALLEL_CHUNK) {
+			states = accumulate(list, collectors);
+		} else {
+			int chunks = (list.size() + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+			List<Object[]> partial = IntStream.range(0, chunks).parallel()
+					.mapToObj(c -> accumulate(
+							list.subList(c * PARALLEL_CHUNK, Math.min((c + 1) * PARALLEL_CHUNK, list.size())),
+							collectors))
+					.collect(Collectors.toList());
+			states = partial.get(0);
+			for (int c = 1; c < chunks; ++c)
+				for (int j = 0; j < collectors.length; ++j)
+					states[j] = ((Collector) collectors[j]).combiner().apply(states[j], partial.get(c)[j]);
+		}
+		Object[] results = new Object[collectors.length];
+		for (int j = 0; j < collectors.length; ++j)
+			results[j] = ((Collector) collectors[j]).finisher().apply(states[j]);
+		return new Aggregates(collectors, results);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object[] accumulate(List<?> list, Collector<?, ?, ?>[] collectors) {
+		int n = collectors.length;
+		Object[] states = new Object[n];
+		BiConsumer[] accumulators = new BiConsumer[n];
+		Reducer[] reducers = new Reducer[n];
+		boolean[] done = new boolean[n];
+		for (int j = 0; j < n; ++j) {
+			states[j] = collectors[j].supplier().get();
+			accumulators[j] = collectors[j].accumulator();
+			if (collectors[j] instanceof Reducer)
+				reducers[j] = (Reducer) collectors[j];
+		}
+		int pending = n;
+		for (Object element : list) {
+			if (pending == 0)
+				break;
+			for (int j = 0; j < n; ++j) {
+				if (done[j])
+					continue;
+				accumulators[j].accept(states[j], element);
+				if (reducers[j] != null && reducers[j].isDone(states[j])) {
+					done[j] = true;
+					--pending;
+				}
+			}
+		}
+		return states;
+	}
+}
@@ -0,0 +1,397 @@
+package javax.util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A dictionary-encoded ListXt, intended for large lists of low-cardinality
+ * values (e.g. country codes, status strings). Each distinct value is stored
+ * once in a dictionary, while the list itself is an array of codes, whose width
+ * (byte, short or int) grows with the dictionary size.
+ *
+ * Operations such as filter, find, map and classify evaluate their function once
+ * per dictionary entry, instead of once per element. Derived lists share the
+ * dictionary with this list, until either of them adds a new value.
+ *
+ * Dictionary entries are never removed, even when no element refers to them any
+ * more.
+ *
+ * @author luca vercelli 2022
+ *
+ */
+public class DictionaryListXt<E> extends AbstractList<E> implements ListXt<E>, RandomAccess, Serializable {
+
+	private static final long serialVersionUID = -4209437154731780254L;
+
+	private static final int BYTE_CODES = 1 << 8;
+	private static final int SHORT_CODES = 1 << 16;
+
+	private Dictionary<E> dictionary;
+	/**
+	 * True if the dictionary may be referenced by some other list, so that it must
+	 * be copied before being modified.
+	 */
+	private boolean sharedDictionary;
+
+	/**
+	 * Only one of these is not null, according to dictionary size.
+	 */
+	private byte[] byteCodes;
+	private short[] shortCodes;
+	private int[] intCodes;
+	private int size;
+
+	public DictionaryListXt() {
+		this(new Dictionary<>(), 10);
+	}
+
+	public DictionaryListXt(Collection<? extends E> elements) {
+		this(new Dictionary<>(), elements.size());
+		for (E element : elements)
+			add(element);
+	}
+
+	public DictionaryListXt(E[] elements) {
+		this(Arrays.asList(elements));
+	}
+
+	private DictionaryListXt(Dictionary<E> dictionary, int initialCapacity) {
+		this.dictionary = dictionary;
+		int n = dictionary.size();
+		if (n <= BYTE_CODES)
+			byteCodes = new byte[initialCapacity];
+		else if (n <= SHORT_CODES)
+			shortCodes = new short[initialCapacity];
+		else
+			intCodes = new int[initialCapacity];
+	}
+
+	/**
+	 * Create an empty list sharing the dictionary of this one.
+	 */
+	private DictionaryListXt<E> derived(int initialCapacity) {
+		sharedDictionary = true;
+		DictionaryListXt<E> l = new DictionaryListXt<>(dictionary, initialCapacity);
+		l.sharedDictionary = true;
+		return l;
+	}
+
+	/**
+	 * Return the number of distinct values stored in the dictionary.
+	 */
+	public int dictionarySize() {
+		return dictionary.size();
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public E get(int index) {
+		checkIndex(index);
+		return dictionary.values.get(code(index));
+	}
+
+	@Override
+	public E set(int index, E element) {
+		checkIndex(index);
+		E old = dictionary.values.get(code(index));
+		setCode(index, encode(element));
+		return old;
+	}
+
+	@Override
+	public boolean add(E element) {
+		appendCode(encode(element));
+		return true;
+	}
+
+	@Override
+	public void add(int index, E element) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		int c = encode(element);
+		ensureCapacity(size + 1);
+		Object codes = codes();
+		System.arraycopy(codes, index, codes, index + 1, size - index);
+		++size;
+		setCode(index, c);
+	}
+
+	@Override
+	public E remove(int index) {
+		checkIndex(index);
+		E old = dictionary.values.get(code(index));
+		Object codes = codes();
+		System.arraycopy(codes, index + 1, codes, index, size - index - 1);
+		--size;
+		++modCount;
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		++modCount;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		Integer c = dictionary.index.get(o);
+		if (c != null)
+			for (int i = 0; i < size; ++i)
+				if (code(i) == c)
+					return i;
+		return -1;
+	}
+
+	/**
+	 * Returns the first element matching given predicate. The predicate is
+	 * evaluated at most once per distinct value.
+	 */
+	@Override
+	public E find(Predicate<? super E> predicate) {
+		int i = findIndex(predicate);
+		return i < 0 ? null : get(i);
+	}
+
+	/**
+	 * Returns the index of the first element matching given predicate. The
+	 * predicate is evaluated at most once per distinct value.
+	 */
+	@Override
+	public int findIndex(Predicate<? super E> predicate) {
+		Boolean[] matches = new Boolean[dictionary.size()];
+		for (int i = 0; i < size; ++i) {
+			int c = code(i);
+			if (matches[c] == null)
+				matches[c] = predicate.test(dictionary.values.get(c));
+			if (matches[c])
+				return i;
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean anyMatch(Predicate<? super E> predicate) {
+		return findIndex(predicate) >= 0;
+	}
+
+	@Override
+	public boolean allMatch(Predicate<? super E> predicate) {
+		return findIndex(predicate.negate()) < 0;
+	}
+
+	/**
+	 * Returns a list consisting of the elements of this list that match the given
+	 * predicate. The predicate is evaluated once per dictionary entry.
+	 */
+	@Override
+	public DictionaryListXt<E> filter(Predicate<? super E> predicate) {
+		int n = dictionary.size();
+		boolean[] matches = new boolean[n];
+		for (int c = 0; c < n; ++c)
+			matches[c] = predicate.test(dictionary.values.get(c));
+		DictionaryListXt<E> l = derived(10);
+		for (int i = 0; i < size; ++i) {
+			int c = code(i);
+			if (matches[c])
+				l.appendCode(c);
+		}
+		return l;
+	}
+
+	/**
+	 * Returns a list consisting of the distinct elements of this list, in order of
+	 * first occurrence.
+	 */
+	@Override
+	public DictionaryListXt<E> distinct() {
+		BitSet seen = new BitSet(dictionary.size());
+		DictionaryListXt<E> l = derived(10);
+		for (int i = 0; i < size; ++i) {
+			int c = code(i);
+			if (!seen.get(c)) {
+				seen.set(c);
+				l.appendCode(c);
+			}
+		}
+		return l;
+	}
+
+	/**
+	 * Returns a list consisting of the results of applying the given function to
+	 * the elements of this list. The function is evaluated once per dictionary
+	 * entry, and the result is dictionary-encoded as well.
+	 */
+	@Override
+	public <R> DictionaryListXt<R> map(Function<? super E, ? extends R> mapper) {
+		int n = dictionary.size();
+		DictionaryListXt<R> l = new DictionaryListXt<>(new Dictionary<>(), 10);
+		int[] mapped = new int[n];
+		for (int c = 0; c < n; ++c)
+			mapped[c] = l.encode(mapper.apply(dictionary.values.get(c)));
+		l.ensureCapacity(size);
+		for (int i = 0; i < size; ++i)
+			l.appendCode(mapped[code(i)]);
+		return l;
+	}
+
+	/**
+	 * Split this list in groups, according to a classificator function. The
+	 * function is evaluated at most once per distinct value, and groups are
+	 * dictionary-encoded as well.
+	 */
+	@Override
+	public <R> TreeMap<R, ListXt<E>> classify(Function<E, R> classificator) {
+		TreeMap<R, ListXt<E>> map = new TreeMap<>();
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		DictionaryListXt<E>[] groups = new DictionaryListXt[dictionary.size()];
+		for (int i = 0; i < size; ++i) {
+			int c = code(i);
+			if (groups[c] == null) {
+				R key = classificator.apply(dictionary.values.get(c));
+				ListXt<E> group = map.get(key);
+				if (group == null) {
+					group = derived(10);
+					map.put(key, group);
+				}
+				groups[c] = (DictionaryListXt<E>) group;
+			}
+			groups[c].appendCode(c);
+		}
+		return map;
+	}
+
+	/**
+	 * Return the code of given value, adding it to the dictionary if necessary.
+	 */
+	private int encode(E element) {
+		Integer c = dictionary.index.get(element);
+		if (c != null)
+			return c;
+		if (sharedDictionary) {
+			dictionary = dictionary.copy();
+			sharedDictionary = false;
+		}
+		int n = dictionary.add(element);
+		if (n == BYTE_CODES + 1 || n == SHORT_CODES + 1)
+			widen();
+		return n - 1;
+	}
+
+	/**
+	 * Switch to a larger code width, according to dictionary size.
+	 */
+	private void widen() {
+		int capacity = byteCodes != null ? byteCodes.length : shortCodes.length;
+		if (byteCodes != null && dictionary.size() <= SHORT_CODES) {
+			shortCodes = new short[capacity];
+			for (int i = 0; i < size; ++i)
+				shortCodes[i] = (short) (byteCodes[i] & 0xFF);
+			byteCodes = null;
+		} else {
+			intCodes = new int[capacity];
+			for (int i = 0; i < size; ++i)
+				intCodes[i] = code(i);
+			byteCodes = null;
+			shortCodes = null;
+		}
+	}
+
+	private int code(int index) {
+		if (byteCodes != null)
+			return byteCodes[index] & 0xFF;
+		if (shortCodes != null)
+			return shortCodes[index] & 0xFFFF;
+		return intCodes[index];
+	}
+
+	private void setCode(int index, int c) {
+		if (byteCodes != null)
+			byteCodes[index] = (byte) c;
+		else if (shortCodes != null)
+			shortCodes[index] = (short) c;
+		else
+			intCodes[index] = c;
+	}
+
+	private void appendCode(int c) {
+		ensureCapacity(size + 1);
+		setCode(size++, c);
+	}
+
+	private Object codes() {
+		return byteCodes != null ? byteCodes : shortCodes != null ? shortCodes : intCodes;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+	}
+
+	private void ensureCapacity(int capacity) {
+		++modCount;
+		int length = byteCodes != null ? byteCodes.length : shortCodes != null ? shortCodes.length : intCodes.length;
+		if (capacity <= length)
+			return;
+		int newLength = Math.max(capacity, length + (length >> 1) + 1);
+		if (byteCodes != null)
+			byteCodes = Arrays.copyOf(byteCodes, newLength);
+		else if (shortCodes != null)
+			shortCodes = Arrays.copyOf(shortCodes, newLength);
+		else
+			intCodes = Arrays.copyOf(intCodes, newLength);
+	}
+
+	/**
+	 * Distinct values, each associated to its position.
+	 */
+	private static class Dictionary<E> implements Serializable {
+
+		private static final long serialVersionUID = 5893064290537216358L;
+
+		final List<E> values = new ArrayList<>();
+		final Map<Object, Integer> index = new HashMap<>();
+
+		int size() {
+			return values.size();
+		}
+
+		/**
+		 * Add a new value.
+		 *
+		 * @return new dictionary size
+		 */
+		int add(E value) {
+			index.put(value, values.size());
+			values.add(value);
+			return values.size();
+		}
+
+		Dictionary<E> copy() {
+			Dictionary<E> d = new Dictionary<>();
+			d.values.addAll(values);
+			d.index.putAll(index);
+			return d;
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package javax.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes and reads list elements to/from a binary stream, e.g. when
+ * <code>ExternalSorter</code> spills them to disk.
+ *
+ * @author luca vercelli 2022
+ *
+ * @param <E>
+ */
+public interface ElementSerializer<E> {
+
+	/**
+	 * Write given element.
+	 */
+	void write(DataOutput out, E element) throws IOException;
+
+	/**
+	 * Read next element, as written by <code>write</code>.
+	 */
+	E read(DataInput in) throws IOException;
+
+	/**
+	 * Serializer for non-null Integer's.
+	 */
+	static ElementSerializer<Integer> integers() {
+		return new ElementSerializer<Integer>() {
+			@Override
+			public void write(DataOutput out, Integer element) throws IOException {
+				out.writeInt(element);
+			}
+
+			@Override
+			public Integer read(DataInput in) throws IOException {
+				return in.readInt();
+			}
+		};
+	}
+
+	/**
+	 * Serializer for non-null Long's.
+	 */
+	static ElementSerializer<Long> longs() {
+		return new ElementSerializer<Long>() {
+			@Override
+			public void write(DataOutput out, Long element) throws IOException {
+				out.writeLong(element);
+			}
+
+			@Override
+			public Long read(DataInput in) throws IOException {
+				return in.readLong();
+			}
+		};
+	}
+
+	/**
+	 * Serializer for non-null String's, of any length.
+	 */
+	static ElementSerializer<String> strings() {
+		return new ElementSerializer<String>() {
+			@Override
+			public void write(DataOutput out, String element) throws IOException {
+				byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+
+			@Override
+			public String read(DataInput in) throws IOException {
+				byte[] bytes = new byte[in.readInt()];
+				in.readFully(bytes);
+				return new String(bytes, StandardCharsets.UTF_8);
+			}
+		};
+	}
+
+	/**
+	 * Serializer for any Serializable element, using Java serialization. Each
+	 * element is serialized on its own, so this is slow and verbose, but it does
+	 * not retain references to previous elements.
+	 */
+	static <E extends Serializable> ElementSerializer<E> serializable() {
+		return new ElementSerializer<E>() {
+			@Override
+			public void write(DataOutput out, E element) throws IOException {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+					oos.writeObject(element);
+				}
+				out.writeInt(bytes.size());
+				out.write(bytes.toByteArray());
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E read(DataInput in) throws IOException {
+				byte[] bytes = new byte[in.readInt()];
+				in.readFully(bytes);
+				try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+					return (E) ois.readObject();
+				} catch (ClassNotFoundException e) {
+					throw new IOException(e);
+				}
+			}
+		};
+	}
+}
@@ -0,0 +1,361 @@
+package javax.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts sequences that do not fit in heap. Elements are collected in runs of at
+ * most <code>runSize</code> elements, each run is sorted in memory and spilled
+ * to a temporary file, then all runs are merged while iterating over the
+ * result. Heap usage is bounded by the run size, regardless of input size.
+ *
+ * @see ListXt#sorted(ExternalSorter)
+ * @see ListXt#distinct(ExternalSorter)
+ *
+ * @author luca vercelli 2022
+ *
+ * @param <E>
+ */
+public class ExternalSorter<E> {
+
+	/**
+	 * Maximum number of runs merged at once. If there are more runs, they are
+	 * merged in several passes.
+	 */
+	public static final int DEFAULT_MAX_FAN_IN = 64;
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final ElementSerializer<E> serializer;
+	private final Comparator<? super E> comparator;
+	private final int runSize;
+	private final int maxFanIn;
+	private final File tempDirectory;
+
+	/**
+	 * @param serializer    used to spill elements to disk
+	 * @param comparator    a non-interfering, stateless <code>Comparator</code>,
+	 *                      or null for natural order
+	 * @param runSize       maximum number of elements held in memory
+	 * @param maxFanIn      maximum number of runs merged at once
+	 * @param tempDirectory directory for temporary files, or null for the
+	 *                      system default
+	 */
+	public ExternalSorter(ElementSerializer<E> serializer, Comparator<? super E> comparator, int runSize,
+			int maxFanIn, File tempDirectory) {
+		if (runSize < 1)
+			throw new IllegalArgumentException("Run size must be positive");
+		if (maxFanIn < 2)
+			throw new IllegalArgumentException("Fan-in must be at least 2");
+		this.serializer = serializer;
+		this.comparator = comparator;
+		this.runSize = runSize;
+		this.maxFanIn = maxFanIn;
+		this.tempDirectory = tempDirectory;
+	}
+
+	public ExternalSorter(ElementSerializer<E> serializer, Comparator<? super E> comparator, int runSize,
+			File tempDirectory) {
+		this(serializer, comparator, runSize, DEFAULT_MAX_FAN_IN, tempDirectory);
+	}
+
+	public ExternalSorter(ElementSerializer<E> serializer, Comparator<? super E> comparator, int runSize) {
+		this(serializer, comparator, runSize, DEFAULT_MAX_FAN_IN, null);
+	}
+
+	/**
+	 * Sort given elements. The iterator should be either consumed or closed, so
+	 * that temporary files are deleted.
+	 *
+	 * @return an iterator over the sorted elements
+	 * @throws <code>UncheckedIOException</code> if temporary files cannot be
+	 * written
+	 */
+	public SortedIterator<E> sort(Iterable<? extends E> elements) {
+		return sort(elements.iterator(), false);
+	}
+
+	/**
+	 * Sort given elements, dropping duplicates, i.e. elements comparing equal to
+	 * the previous one. The iterator should be either consumed or closed, so that
+	 * temporary files are deleted.
+	 *
+	 * @return an iterator over the sorted distinct elements
+	 * @throws <code>UncheckedIOException</code> if temporary files cannot be
+	 * written
+	 */
+	public SortedIterator<E> distinct(Iterable<? extends E> elements) {
+		return sort(elements.iterator(), true);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Comparator<? super E> comparator() {
+		return comparator != null ? comparator : (Comparator<? super E>) Comparator.naturalOrder();
+	}
+
+	private SortedIterator<E> sort(Iterator<? extends E> elements, boolean distinct) {
+		List<Source<E>> runs = new ArrayList<>();
+		// runs already written by the current merge pass
+		List<Source<E>> merged = new ArrayList<>();
+		List<E> buffer = new ArrayList<>();
+		try {
+			while (elements.hasNext()) {
+				buffer.add(elements.next());
+				if (buffer.size() >= runSize) {
+					runs.add(spill(sortRun(buffer, distinct).iterator()));
+					buffer.clear();
+				}
+			}
+			if (runs.isEmpty()) {
+				// everything fits in memory
+				runs.add(new IteratorSource<>(sortRun(buffer, distinct).iterator()));
+				return new SortedIterator<>(runs, comparator(), distinct);
+			}
+			if (!buffer.isEmpty())
+				runs.add(spill(sortRun(buffer, distinct).iterator()));
+			buffer = null;
+
+			while (runs.size() > maxFanIn) {
+				merged = new ArrayList<>();
+				for (int i = 0; i < runs.size(); i += maxFanIn) {
+					List<Source<E>> group = runs.subList(i, Math.min(i + maxFanIn, runs.size()));
+					merged.add(group.size() == 1 ? group.get(0)
+							: spill(new SortedIterator<>(new ArrayList<>(group), comparator(), distinct)));
+				}
+				runs = merged;
+			}
+			return new SortedIterator<>(runs, comparator(), distinct);
+		} catch (IOException e) {
+			close(runs, merged);
+			throw new UncheckedIOException(e);
+		} catch (RuntimeException e) {
+			close(runs, merged);
+			throw e;
+		}
+	}
+
+	/**
+	 * Close all given sources, deleting their temporary files.
+	 */
+	private static <E> void close(List<Source<E>> runs, List<Source<E>> merged) {
+		for (Source<E> run : runs)
+			run.close();
+		for (Source<E> run : merged)
+			run.close();
+	}
+
+	private List<E> sortRun(List<E> buffer, boolean distinct) {
+		buffer.sort(comparator());
+		if (distinct && !buffer.isEmpty()) {
+			int k = 1;
+			for (int i = 1; i < buffer.size(); ++i)
+				if (comparator().compare(buffer.get(i), buffer.get(k - 1)) != 0)
+					buffer.set(k++, buffer.get(i));
+			buffer.subList(k, buffer.size()).clear();
+		}
+		return buffer;
+	}
+
+	/**
+	 * Write given sorted elements to a new temporary file.
+	 */
+	private Source<E> spill(Iterator<E> sorted) throws IOException {
+		File file = File.createTempFile("listxt", ".run", tempDirectory);
+		long count = 0;
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE))) {
+			while (sorted.hasNext()) {
+				serializer.write(out, sorted.next());
+				++count;
+			}
+		} catch (IOException | RuntimeException e) {
+			file.delete();
+			throw e;
+		}
+		return new RunSource<>(file, count, serializer);
+	}
+
+	/**
+	 * A sorted sequence of elements, to be merged.
+	 */
+	private abstract static class Source<E> implements Closeable {
+
+		E head;
+		/**
+		 * Position among merged sources.
+		 */
+		int order;
+
+		/**
+		 * Move to next element.
+		 *
+		 * @return false if there are no more elements
+		 */
+		abstract boolean advance() throws IOException;
+
+		@Override
+		public void close() {
+		}
+	}
+
+	private static class IteratorSource<E> extends Source<E> {
+
+		private final Iterator<E> iterator;
+
+		IteratorSource(Iterator<E> iterator) {
+			this.iterator = iterator;
+		}
+
+		@Override
+		boolean advance() {
+			if (!iterator.hasNext())
+				return false;
+			head = iterator.next();
+			return true;
+		}
+	}
+
+	private static class RunSource<E> extends Source<E> {
+
+		private final File file;
+		private final ElementSerializer<E> serializer;
+		private long remaining;
+		private DataInputStream in;
+
+		RunSource(File file, long count, ElementSerializer<E> serializer) {
+			this.file = file;
+			this.remaining = count;
+			this.serializer = serializer;
+		}
+
+		@Override
+		boolean advance() throws IOException {
+			if (remaining == 0)
+				return false;
+			if (in == null)
+				in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+			head = serializer.read(in);
+			--remaining;
+			return true;
+		}
+
+		@Override
+		public void close() {
+			remaining = 0;
+			head = null;
+			try {
+				if (in != null)
+					in.close();
+			} catch (IOException e) {
+				// ignore, we are deleting the file anyway
+			}
+			file.delete();
+		}
+	}
+
+	/**
+	 * Iterator merging sorted runs. Once all elements are consumed, or when
+	 * <code>close</code> is called, temporary files are deleted.
+	 */
+	public static class SortedIterator<E> implements Iterator<E>, Closeable {
+
+		private final List<Source<E>> sources;
+		private final PriorityQueue<Source<E>> queue;
+		private final Comparator<? super E> comparator;
+		private final boolean distinct;
+		private boolean hasLast;
+		private E last;
+
+		private SortedIterator(List<Source<E>> sources, Comparator<? super E> comparator, boolean distinct)
+				throws IOException {
+			this.sources = sources;
+			this.comparator = comparator;
+			this.distinct = distinct;
+			// ties are broken by run order, so that the sort is stable
+			queue = new PriorityQueue<>(Math.max(1, sources.size()), (x, y) -> {
+				int c = comparator.compare(x.head, y.head);
+				return c != 0 ? c : Integer.compare(x.order, y.order);
+			});
+			try {
+				for (int i = 0; i < sources.size(); ++i) {
+					Source<E> source = sources.get(i);
+					source.order = i;
+					if (source.advance())
+						queue.add(source);
+					else
+						source.close();
+				}
+				skipDuplicates();
+			} catch (IOException | RuntimeException e) {
+				close();
+				throw e;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !queue.isEmpty();
+		}
+
+		@Override
+		public E next() {
+			if (queue.isEmpty())
+				throw new NoSuchElementException();
+			Source<E> source = queue.poll();
+			E element = source.head;
+			hasLast = true;
+			last = element;
+			try {
+				if (source.advance())
+					queue.add(source);
+				else
+					source.close();
+				skipDuplicates();
+			} catch (IOException e) {
+				close();
+				throw new UncheckedIOException(e);
+			}
+			if (queue.isEmpty())
+				close();
+			return element;
+		}
+
+		private void skipDuplicates() throws IOException {
+			if (!distinct || !hasLast)
+				return;
+			while (!queue.isEmpty() && comparator.compare(queue.peek().head, last) == 0) {
+				Source<E> source = queue.poll();
+				if (source.advance())
+					queue.add(source);
+				else
+					source.close();
+			}
+		}
+
+		/**
+		 * Release all resources, deleting temporary files. Further calls to
+		 * <code>hasNext</code> return false.
+		 */
+		@Override
+		public void close() {
+			queue.clear();
+			for (Source<E> source : sources)
+				source.close();
+			last = null;
+		}
+	}
+}
@@ -0,0 +1,388 @@
+package javax.util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.RandomAccess;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A ListXt of Integer's backed by a primitive <code>int[]</code>. Besides the
+ * usual List methods, which box, it provides primitive methods such as
+ * <code>getInt</code>, <code>filterInt</code> and <code>mapInt</code>, so that
+ * hot loops never box. Null elements are not allowed.
+ *
+ * @author luca vercelli 2022
+ *
+ */
+public class IntListXt extends AbstractList<Integer> implements ListXt<Integer>, RandomAccess, Serializable {
+
+	private static final long serialVersionUID = 2383958213452398460L;
+
+	private int[] elements;
+	private int size;
+
+	public IntListXt() {
+		this(10);
+	}
+
+	public IntListXt(int initialCapacity) {
+		if (initialCapacity < 0)
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		elements = new int[initialCapacity];
+	}
+
+	public IntListXt(int[] elements) {
+		this.elements = elements.clone();
+		size = elements.length;
+	}
+
+	public IntListXt(Collection<? extends Integer> elements) {
+		this(elements.size());
+		for (Integer element : elements)
+			addInt(element);
+	}
+
+	/**
+	 * Create a list of n equal elements
+	 *
+	 * @param element
+	 * @param n
+	 * @return
+	 */
+	public static IntListXt sequence(int element, int n) {
+		IntListXt l = new IntListXt(n);
+		Arrays.fill(l.elements, 0, n, element);
+		l.size = n;
+		return l;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Integer get(int index) {
+		return getInt(index);
+	}
+
+	/**
+	 * Primitive version of <code>get</code>.
+	 */
+	public int getInt(int index) {
+		checkIndex(index);
+		return elements[index];
+	}
+
+	@Override
+	public Integer set(int index, Integer element) {
+		return setInt(index, element);
+	}
+
+	/**
+	 * Primitive version of <code>set</code>.
+	 *
+	 * @return the element previously at the specified position
+	 */
+	public int setInt(int index, int element) {
+		checkIndex(index);
+		int old = elements[index];
+		elements[index] = element;
+		return old;
+	}
+
+	@Override
+	public boolean add(Integer element) {
+		return addInt(element);
+	}
+
+	/**
+	 * Primitive version of <code>add</code>.
+	 *
+	 * @return true
+	 */
+	public boolean addInt(int element) {
+		ensureCapacity(size + 1);
+		elements[size++] = element;
+		return true;
+	}
+
+	@Override
+	public void add(int index, Integer element) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		int value = element;
+		ensureCapacity(size + 1);
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+		elements[index] = value;
+		++size;
+	}
+
+	@Override
+	public Integer remove(int index) {
+		checkIndex(index);
+		int old = elements[index];
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		--size;
+		++modCount;
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		++modCount;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return o instanceof Integer && containsInt((Integer) o);
+	}
+
+	/**
+	 * Primitive version of <code>contains</code>.
+	 */
+	public boolean containsInt(int value) {
+		for (int i = 0; i < size; ++i)
+			if (elements[i] == value)
+				return true;
+		return false;
+	}
+
+	/**
+	 * Returns true if this list contains all elements of the given collection. For
+	 * large collections a primitive hash set of this list is built, so that the
+	 * check is linear instead of quadratic.
+	 */
+	@Override
+	public boolean containsAll(Collection<?> c) {
+		if (c.size() <= 8)
+			return super.containsAll(c);
+		LongHashSet set = new LongHashSet(size);
+		for (int i = 0; i < size; ++i)
+			set.add(elements[i]);
+		for (Object o : c)
+			if (!(o instanceof Integer) || !set.contains((Integer) o))
+				return false;
+		return true;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		if (o instanceof Integer) {
+			int value = (Integer) o;
+			for (int i = 0; i < size; ++i)
+				if (elements[i] == value)
+					return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Return a copy of list elements.
+	 */
+	public int[] toIntArray() {
+		return Arrays.copyOf(elements, size);
+	}
+
+	/**
+	 * Sum list elements. Since partial sums are kept in a long, the result is
+	 * always exact.
+	 *
+	 * @return sum of elements, and in particular 0 if list is empty
+	 */
+	public long sum() {
+		long current = 0;
+		for (int i = 0; i < size; ++i)
+			current += elements[i];
+		return current;
+	}
+
+	/**
+	 * Sum list elements, as an int.
+	 *
+	 * @return sum of elements, and in particular 0 if list is empty
+	 * @throws <code>ArithmeticException</code> if the result overflows an int
+	 */
+	public int sumExact() {
+		return Math.toIntExact(sum());
+	}
+
+	@Override
+	public Integer max() {
+		return isEmpty() ? null : maxInt();
+	}
+
+	@Override
+	public Integer min() {
+		return isEmpty() ? null : minInt();
+	}
+
+	/**
+	 * Primitive version of <code>max</code>.
+	 *
+	 * @throws <code>IllegalArgumentException</code> if list is empty
+	 */
+	public int maxInt() {
+		if (isEmpty())
+			throw new IllegalArgumentException("Cannot calculate max of empty list");
+		int current = elements[0];
+		for (int i = 1; i < size; ++i)
+			if (elements[i] > current)
+				current = elements[i];
+		return current;
+	}
+
+	/**
+	 * Primitive version of <code>min</code>.
+	 *
+	 * @throws <code>IllegalArgumentException</code> if list is empty
+	 */
+	public int minInt() {
+		if (isEmpty())
+			throw new IllegalArgumentException("Cannot calculate min of empty list");
+		int current = elements[0];
+		for (int i = 1; i < size; ++i)
+			if (elements[i] < current)
+				current = elements[i];
+		return current;
+	}
+
+	/**
+	 * Returns a list consisting of the distinct elements of this list, in order of
+	 * first occurrence. Uses a bitset if values are dense, an open-addressing hash
+	 * set otherwise.
+	 *
+	 * @return the new list
+	 */
+	@Override
+	public IntListXt distinct() {
+		IntListXt l = new IntListXt();
+		if (isEmpty())
+			return l;
+		int min = minInt();
+		long range = (long) maxInt() - min + 1;
+		if (range <= Integer.MAX_VALUE && range <= 64L * size) {
+			BitSet seen = new BitSet((int) range);
+			for (int i = 0; i < size; ++i) {
+				int k = elements[i] - min;
+				if (!seen.get(k)) {
+					seen.set(k);
+					l.addInt(elements[i]);
+				}
+			}
+		} else {
+			LongHashSet seen = new LongHashSet(size);
+			for (int i = 0; i < size; ++i)
+				if (seen.add(elements[i]))
+					l.addInt(elements[i]);
+		}
+		return l;
+	}
+
+	/**
+	 * Returns a list consisting of the elements of this list, sorted according to
+	 * natural order. Uses a counting sort if values are dense, a LSD radix sort
+	 * otherwise.
+	 *
+	 * @return the new list
+	 */
+	@Override
+	public IntListXt sorted() {
+		IntListXt l = new IntListXt(toIntArray());
+		if (size > 1) {
+			int min = minInt();
+			long range = (long) maxInt() - min + 1;
+			if (range <= size)
+				countingSort(l.elements, min, (int) range);
+			else
+				radixSort(l.elements);
+		}
+		return l;
+	}
+
+	private static void countingSort(int[] a, int min, int range) {
+		int[] count = new int[range];
+		for (int x : a)
+			++count[x - min];
+		int k = 0;
+		for (int v = 0; v < range; ++v)
+			for (int c = count[v]; c > 0; --c)
+				a[k++] = v + min;
+	}
+
+	private static void radixSort(int[] a) {
+		int n = a.length;
+		int[] count = new int[4 * 256];
+		for (int x : a) {
+			int u = x ^ Integer.MIN_VALUE;
+			for (int p = 0; p < 4; ++p)
+				++count[p * 256 + ((u >>> (8 * p)) & 0xFF)];
+		}
+		int[] src = a;
+		int[] dst = new int[n];
+		for (int p = 0; p < 4; ++p) {
+			int base = p * 256;
+			// skip passes where all elements have the same digit
+			if (count[base + (((src[0] ^ Integer.MIN_VALUE) >>> (8 * p)) & 0xFF)] == n)
+				continue;
+			int offset = 0;
+			for (int d = 0; d < 256; ++d) {
+				int c = count[base + d];
+				count[base + d] = offset;
+				offset += c;
+			}
+			for (int x : src)
+				dst[count[base + (((x ^ Integer.MIN_VALUE) >>> (8 * p)) & 0xFF)]++] = x;
+			int[] t = src;
+			src = dst;
+			dst = t;
+		}
+		if (src != a)
+			System.arraycopy(src, 0, a, 0, n);
+	}
+
+	/**
+	 * Primitive version of <code>filter</code>.
+	 *
+	 * @param predicate a non-interfering, stateless predicate to apply to each
+	 *                  element to determine if it should be included
+	 * @return the new list
+	 */
+	public IntListXt filterInt(IntPredicate predicate) {
+		IntListXt l = new IntListXt();
+		for (int i = 0; i < size; ++i)
+			if (predicate.test(elements[i]))
+				l.addInt(elements[i]);
+		return l;
+	}
+
+	/**
+	 * Primitive version of <code>map</code>.
+	 *
+	 * @param mapper a non-interfering, stateless function to apply to each element
+	 * @return the new list
+	 */
+	public IntListXt mapInt(IntUnaryOperator mapper) {
+		IntListXt l = new IntListXt(size);
+		for (int i = 0; i < size; ++i)
+			l.elements[i] = mapper.applyAsInt(elements[i]);
+		l.size = size;
+		return l;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+	}
+
+	private void ensureCapacity(int capacity) {
+		++modCount;
+		if (capacity > elements.length)
+			elements = Arrays.copyOf(elements, Math.max(capacity, elements.length + (elements.length >> 1) + 1));
+	}
+}
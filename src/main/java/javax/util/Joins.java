@@ -0,0 +1,221 @@
+package javax.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of join operations between two lists, see
+ * <code>ListXt.join</code> and similar.
+ *
+ * If the keys of both lists are already sorted, and all of the same class, a
+ * sort-merge strategy is used. Otherwise, a hash table is built on the smaller
+ * list. Either way, keys match according to Object.equals(Object), and the
+ * result respects the order of the left list, and for each left element the
+ * order of the right list.
+ *
+ * @author luca vercelli 2022
+ *
+ */
+final class Joins {
+
+	enum Kind {
+		INNER, LEFT, SEMI, ANTI
+	}
+
+	/**
+	 * Number of left elements handled by each task, when probing in parallel.
+	 */
+	static final int PARALLEL_CHUNK = 4096;
+
+	private Joins() {
+	}
+
+	/**
+	 * Returns the indexes of the right elements matching the i-th left element, or
+	 * null.
+	 */
+	@FunctionalInterface
+	private interface Matches {
+		IntListXt get(int i);
+	}
+
+	/**
+	 * Join two lists. For SEMI and ANTI joins, the combiner is called with a null
+	 * right element.
+	 *
+	 * @param parallel whether to probe left elements in parallel
+	 * @return the new list
+	 */
+	@SuppressWarnings("unchecked")
+	static <E, F, K, R> ListXt<R> join(List<E> left, List<F> right, Function<? super E, ? extends K> leftKey,
+			Function<? super F, ? extends K> rightKey, BiFunction<? super E, ? super F, ? extends R> combiner,
+			Kind kind, boolean parallel) {
+		E[] l = (E[]) left.toArray();
+		F[] r = (F[]) right.toArray();
+		Object[] lk = keys(l, leftKey);
+		Object[] rk = keys(r, rightKey);
+
+		Class<?> keyClass = keyClass(lk.length > 0 ? lk : rk);
+		IntListXt[] merged = keyClass != null && isSorted(lk, keyClass) && isSorted(rk, keyClass)
+				? mergeMatches(lk, rk)
+				: null;
+		Matches matches;
+		if (merged != null) {
+			matches = i -> merged[i];
+		} else if (r.length <= l.length) {
+			Map<Object, IntListXt> index = buildIndex(rk);
+			matches = i -> lk[i] == null ? null : index.get(lk[i]);
+		} else {
+			IntListXt[] m = scanMatches(lk, rk);
+			matches = i -> m[i];
+		}
+
+		if (!parallel || l.length <= PARALLEL_CHUNK)
+			return emit(l, r, matches, combiner, kind, 0, l.length);
+		int chunks = (l.length + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+		List<ListXt<R>> partial = IntStream.range(0, chunks).parallel()
+				.mapToObj(c -> Joins.<E, F, R>emit(l, r, matches, combiner, kind, c * PARALLEL_CHUNK,
+						Math.min((c + 1) * PARALLEL_CHUNK, l.length)))
+				.collect(Collectors.toList());
+		ListXt<R> result = new ArrayListXt<>();
+		for (ListXt<R> p : partial)
+			result.addAll(p);
+		return result;
+	}
+
+	private static <T> Object[] keys(T[] elements, Function<? super T, ?> key) {
+		Object[] keys = new Object[elements.length];
+		for (int i = 0; i < elements.length; ++i)
+			keys[i] = key.apply(elements[i]);
+		return keys;
+	}
+
+	/**
+	 * Returns the class of the first key, if it is Comparable, otherwise null.
+	 */
+	private static Class<?> keyClass(Object[] keys) {
+		return keys.length > 0 && keys[0] instanceof Comparable ? keys[0].getClass() : null;
+	}
+
+	/**
+	 * Returns true if all keys are non-null instances of given Comparable class,
+	 * in ascending order. Keys of different classes are not merged, because they
+	 * may not be mutually comparable.
+	 */
+	@SuppressWarnings("unchecked")
+	private static boolean isSorted(Object[] keys, Class<?> keyClass) {
+		for (int i = 0; i < keys.length; ++i) {
+			if (keys[i] == null || keys[i].getClass() != keyClass)
+				return false;
+			try {
+				if (i > 0 && ((Comparable<Object>) keys[i]).compareTo(keys[i - 1]) < 0)
+					return false;
+			} catch (ClassCastException e) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Sort-merge strategy. Both key arrays must be sorted.
+	 * 
+	 * @return matches, or null if some keys compare as equal without being
+	 *         equals(), so that the hash strategy must be used instead
+	 */
+	@SuppressWarnings("unchecked")
+	private static IntListXt[] mergeMatches(Object[] lk, Object[] rk) {
+		IntListXt[] matches = new IntListXt[lk.length];
+		int i = 0;
+		int j = 0;
+		while (i < lk.length && j < rk.length) {
+			int c = ((Comparable<Object>) lk[i]).compareTo(rk[j]);
+			if (c < 0) {
+				++i;
+			} else if (c > 0) {
+				++j;
+			} else {
+				// all left elements with same key share the same group of right elements
+				IntListXt group = new IntListXt();
+				Object key = rk[j];
+				while (j < rk.length && ((Comparable<Object>) rk[j]).compareTo(key) == 0) {
+					if (!rk[j].equals(key))
+						return null;
+					group.addInt(j++);
+				}
+				while (i < lk.length && ((Comparable<Object>) lk[i]).compareTo(key) == 0) {
+					if (!lk[i].equals(key))
+						return null;
+					matches[i++] = group;
+				}
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * Hash strategy, building a hash table on given keys. Null keys never match.
+	 */
+	private static Map<Object, IntListXt> buildIndex(Object[] keys) {
+		Map<Object, IntListXt> index = new HashMap<>();
+		for (int i = 0; i < keys.length; ++i)
+			if (keys[i] != null)
+				index.computeIfAbsent(keys[i], k -> new IntListXt(1)).addInt(i);
+		return index;
+	}
+
+	/**
+	 * Hash strategy, building a hash table on the left keys and scanning the right
+	 * ones.
+	 */
+	private static IntListXt[] scanMatches(Object[] lk, Object[] rk) {
+		Map<Object, IntListXt> index = buildIndex(lk);
+		IntListXt[] matches = new IntListXt[lk.length];
+		for (int j = 0; j < rk.length; ++j) {
+			IntListXt left = rk[j] == null ? null : index.get(rk[j]);
+			if (left != null) {
+				for (int k = 0; k < left.size(); ++k) {
+					int i = left.getInt(k);
+					if (matches[i] == null)
+						matches[i] = new IntListXt(1);
+					matches[i].addInt(j);
+				}
+			}
+		}
+		return matches;
+	}
+
+	private static <E, F, R> ListXt<R> emit(E[] l, F[] r, Matches matches,
+			BiFunction<? super E, ? super F, ? extends R> combiner, Kind kind, int from, int to) {
+		ListXt<R> result = new ArrayListXt<>();
+		for (int i = from; i < to; ++i) {
+			IntListXt m = matches.get(i);
+			boolean found = m != null && !m.isEmpty();
+			switch (kind) {
+			case INNER:
+			case LEFT:
+				if (found) {
+					for (int k = 0; k < m.size(); ++k)
+						result.add(combiner.apply(l[i], r[m.getInt(k)]));
+				} else if (kind == Kind.LEFT) {
+					result.add(combiner.apply(l[i], null));
+				}
+				break;
+			case SEMI:
+				if (found)
+					result.add(combiner.apply(l[i], null));
+				break;
+			case ANTI:
+				if (!found)
+					result.add(combiner.apply(l[i], null));
+				break;
+			}
+		}
+		return result;
+	}
+}
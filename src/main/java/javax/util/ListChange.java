@@ -0,0 +1,74 @@
+package javax.util;
+
+/**
+ * A single change of an <code>ObservableListXt</code>. Within a batch, the index
+ * of each change refers to the list as left by the previous changes.
+ *
+ * @author luca vercelli 2022
+ *
+ * @param <E>
+ */
+public final class ListChange<E> {
+
+	public enum Type {
+		ADDED, REMOVED, REPLACED
+	}
+
+	private final Type type;
+	private final int index;
+	private final E oldElement;
+	private final E newElement;
+
+	private ListChange(Type type, int index, E oldElement, E newElement) {
+		this.type = type;
+		this.index = index;
+		this.oldElement = oldElement;
+		this.newElement = newElement;
+	}
+
+	public static <E> ListChange<E> added(int index, E element) {
+		return new ListChange<>(Type.ADDED, index, null, element);
+	}
+
+	public static <E> ListChange<E> removed(int index, E element) {
+		return new ListChange<>(Type.REMOVED, index, element, null);
+	}
+
+	public static <E> ListChange<E> replaced(int index, E oldElement, E newElement) {
+		return new ListChange<>(Type.REPLACED, index, oldElement, newElement);
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * @return the removed or replaced element, or null if ADDED
+	 */
+	public E getOldElement() {
+		return oldElement;
+	}
+
+	/**
+	 * @return the added or replacing element, or null if REMOVED
+	 */
+	public E getNewElement() {
+		return newElement;
+	}
+
+	@Override
+	public String toString() {
+		switch (type) {
+		case ADDED:
+			return "added " + newElement + " at " + index;
+		case REMOVED:
+			return "removed " + oldElement + " at " + index;
+		default:
+			return "replaced " + oldElement + " with " + newElement + " at " + index;
+		}
+	}
+}
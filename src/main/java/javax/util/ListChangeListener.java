@@ -0,0 +1,22 @@
+package javax.util;
+
+import java.util.List;
+
+/**
+ * Receives the changes of an <code>ObservableListXt</code>.
+ *
+ * @author luca vercelli 2022
+ *
+ * @param <E>
+ */
+@FunctionalInterface
+public interface ListChangeListener<E> {
+
+	/**
+	 * Called after the list has changed.
+	 *
+	 * @param changes a non-empty, unmodifiable list of changes, in the order they
+	 *                were applied
+	 */
+	void onChanged(List<ListChange<E>> changes);
+}
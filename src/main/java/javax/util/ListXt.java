@@ -5,9 +5,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collector;
 
 /**
  * A List with methods from Stream interface.
@@ -82,6 +84,20 @@ public interface ListXt<E> extends List<E> {
 		return new ArrayListXt<>(set);
 	}
 
+	/**
+	 * Returns the distinct elements of this list, in the order of the given
+	 * sorter, using a bounded amount of heap. Elements are distinct according to
+	 * the comparator of the sorter, not to Object.equals(Object).
+	 * 
+	 * @param sorter the sorter, defining comparator, memory budget and temporary
+	 *               directory
+	 * @return an iterator over distinct elements, that should be either consumed
+	 *         or closed
+	 */
+	default ExternalSorter.SortedIterator<E> distinct(ExternalSorter<E> sorter) {
+		return sorter.distinct(this);
+	}
+
 	/**
 	 * Returns a list consisting of the elements of this list that match the given
 	 * predicate.
@@ -316,6 +332,20 @@ public interface ListXt<E> extends List<E> {
 		return l;
 	}
 
+	/**
+	 * Returns the elements of this list sorted by the given sorter, using a bounded
+	 * amount of heap. Runs of elements are sorted in memory and spilled to disk,
+	 * then merged while iterating.
+	 * 
+	 * @param sorter the sorter, defining comparator, memory budget and temporary
+	 *               directory
+	 * @return an iterator over sorted elements, that should be either consumed or
+	 *         closed
+	 */
+	default ExternalSorter.SortedIterator<E> sorted(ExternalSorter<E> sorter) {
+		return sorter.sort(this);
+	}
+
 	/**
 	 * Split this list in groups, according to a classificator function.
 	 * 
@@ -335,4 +365,139 @@ public interface ListXt<E> extends List<E> {
 		}
 		return map;
 	}
+
+	/**
+	 * Inner join of this list with another one. For each element of this list,
+	 * and each element of the other list having an equal key, the combination of
+	 * the two is added to the result. Keys match according to
+	 * Object.equals(Object), and null keys never match.
+	 * 
+	 * If the keys of both lists are already sorted, a sort-merge strategy is used,
+	 * otherwise a hash table is built on the smaller list. The result respects the
+	 * order of this list.
+	 * 
+	 * @param <F>      type of elements of the other list
+	 * @param <K>      type of join keys
+	 * @param <R>      type of result elements
+	 * @param other    the list to join with
+	 * @param leftKey  a non-interfering, stateless function mapping each element
+	 *                 of this list into its key
+	 * @param rightKey a non-interfering, stateless function mapping each element
+	 *                 of the other list into its key
+	 * @param combiner a non-interfering, stateless function combining two matching
+	 *                 elements
+	 * @return the new list
+	 */
+	default <F, K, R> ListXt<R> join(List<F> other, Function<? super E, ? extends K> leftKey,
+			Function<? super F, ? extends K> rightKey, BiFunction<? super E, ? super F, ? extends R> combiner) {
+		return join(other, leftKey, rightKey, combiner, false);
+	}
+
+	/**
+	 * Inner join of this list with another one, optionally probing the elements of
+	 * this list in parallel.
+	 * 
+	 * @see #join(List, Function, Function, BiFunction)
+	 */
+	default <F, K, R> ListXt<R> join(List<F> other, Function<? super E, ? extends K> leftKey,
+			Function<? super F, ? extends K> rightKey, BiFunction<? super E, ? super F, ? extends R> combiner,
+			boolean parallel) {
+		return Joins.join(this, other, leftKey, rightKey, combiner, Joins.Kind.INNER, parallel);
+	}
+
+	/**
+	 * Left outer join of this list with another one. Same as <code>join</code>,
+	 * but elements of this list without any match are combined with null.
+	 * 
+	 * @see #join(List, Function, Function, BiFunction)
+	 */
+	default <F, K, R> ListXt<R> leftJoin(List<F> other, Function<? super E, ? extends K> leftKey,
+			Function<? super F, ? extends K> rightKey, BiFunction<? super E, ? super F, ? extends R> combiner) {
+		return leftJoin(other, leftKey, rightKey, combiner, false);
+	}
+
+	/**
+	 * Left outer join of this list with another one, optionally probing the
+	 * elements of this list in parallel.
+	 * 
+	 * @see #leftJoin(List, Function, Function, BiFunction)
+	 */
+	default <F, K, R> ListXt<R> leftJoin(List<F> other, Function<? super E, ? extends K> leftKey,
+			Function<? super F, ? extends K> rightKey, BiFunction<? super E, ? super F, ? extends R> combiner,
+			boolean parallel) {
+		return Joins.join(this, other, leftKey, rightKey, combiner, Joins.Kind.LEFT, parallel);
+	}
+
+	/**
+	 * Returns a list consisting of the elements of this list having a matching key
+	 * in the other list. Each element is kept at most once.
+	 * 
+	 * @see #join(List, Function, Function, BiFunction)
+	 */
+	default <F, K> ListXt<E> semiJoin(List<F> other, Function<? super E, ? extends K> leftKey,
+			Function<? super F, ? extends K> rightKey) {
+		return semiJoin(other, leftKey, rightKey, false);
+	}
+
+	/**
+	 * Semi-join, optionally probing the elements of this list in parallel.
+	 * 
+	 * @see #semiJoin(List, Function, Function)
+	 */
+	default <F, K> ListXt<E> semiJoin(List<F> other, Function<? super E, ? extends K> leftKey,
+			Function<? super F, ? extends K> rightKey, boolean parallel) {
+		return Joins.join(this, other, leftKey, rightKey, (x, y) -> x, Joins.Kind.SEMI, parallel);
+	}
+
+	/**
+	 * Returns a list consisting of the elements of this list not having any
+	 * matching key in the other list.
+	 * 
+	 * @see #join(List, Function, Function, BiFunction)
+	 */
+	default <F, K> ListXt<E> antiJoin(List<F> other, Function<? super E, ? extends K> leftKey,
+			Function<? super F, ? extends K> rightKey) {
+		return antiJoin(other, leftKey, rightKey, false);
+	}
+
+	/**
+	 * Anti-join, optionally probing the elements of this list in parallel.
+	 * 
+	 * @see #antiJoin(List, Function, Function)
+	 */
+	default <F, K> ListXt<E> antiJoin(List<F> other, Function<? super E, ? extends K> leftKey,
+			Function<? super F, ? extends K> rightKey, boolean parallel) {
+		return Joins.join(this, other, leftKey, rightKey, (x, y) -> x, Joins.Kind.ANTI, parallel);
+	}
+
+	/**
+	 * Compute several aggregates in a single traversal of this list, e.g.
+	 * 
+	 * <pre>
+	 * Reducer&lt;Integer, ?, Integer&gt; max = Reducer.max(Comparator.naturalOrder());
+	 * Reducer&lt;Integer, ?, Long&gt; positives = Reducer.count(x -&gt; x &gt; 0);
+	 * Aggregates result = list.aggregate(Arrays.asList(max, positives));
+	 * long n = result.get(positives);
+	 * </pre>
+	 * 
+	 * Any <code>Collector</code> may be given. Traversal stops as soon as all
+	 * collectors are <code>Reducer</code>'s that are done.
+	 * 
+	 * @param collectors the aggregates to compute
+	 * @return the results, one for each collector
+	 */
+	default Aggregates aggregate(List<? extends Collector<? super E, ?, ?>> collectors) {
+		return Aggregates.of(this, false, collectors);
+	}
+
+	/**
+	 * Same as <code>aggregate</code>, but if this list is RandomAccess, chunks of
+	 * it are accumulated in parallel, and then combined in order.
+	 * 
+	 * @param collectors the aggregates to compute
+	 * @return the results, one for each collector
+	 */
+	default Aggregates aggregateParallel(List<? extends Collector<? super E, ?, ?>> collectors) {
+		return Aggregates.of(this, true, collectors);
+	}
 }
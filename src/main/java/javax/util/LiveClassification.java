@@ -0,0 +1,210 @@
+package javax.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Live counterpart of <code>ListXt.classify</code>: groups are read-only views
+ * over an <code>ObservableListXt</code>, kept up to date incrementally. The
+ * classificator is evaluated once per added or replaced element. Groups are
+ * created when their first element appears, and dropped when they become
+ * empty.
+ *
+ * @author luca vercelli 2022
+ *
+ * @param <R> type of group keys
+ * @param <E> type of list elements
+ */
+public class LiveClassification<R, E> implements AutoCloseable {
+
+	private final ObservableListXt<E> source;
+	private final Function<E, R> classificator;
+	private final TreeMap<R, Group> groups = new TreeMap<>();
+	private final SortedMap<R, LiveListXt<E>> unmodifiableGroups = Collections.unmodifiableSortedMap(groups);
+	/**
+	 * All source elements, in source order. Groups refer to these nodes, so that
+	 * inserting or removing an element does not shift the positions stored in
+	 * other groups.
+	 */
+	private final RankTree<Member> elements = new RankTree<>();
+	private final ListChangeListener<E> listener = this::onChanged;
+	/**
+	 * Groups with an open batch, while handling source changes.
+	 */
+	private final List<Group> batch = new ArrayList<>();
+	private boolean handlingChanges;
+
+	LiveClassification(ObservableListXt<E> source, Function<E, R> classificator) {
+		this.source = source;
+		this.classificator = classificator;
+		for (E element : source)
+			added(elements.size(), element);
+		source.addListener(listener);
+	}
+
+	/**
+	 * Return the current groups. The returned map is read-only, and reflects the
+	 * changes of the source list.
+	 * 
+	 * @return an ordered map of groups, whose order respects the source list order
+	 */
+	public SortedMap<R, LiveListXt<E>> getGroups() {
+		return unmodifiableGroups;
+	}
+
+	private Group group(R key) {
+		Group group = groups.get(key);
+		if (group == null) {
+			group = new Group(key);
+			groups.put(key, group);
+		}
+		if (handlingChanges && !group.inBatch) {
+			group.inBatch = true;
+			group.beginBatch();
+			batch.add(group);
+		}
+		return group;
+	}
+
+	/**
+	 * Handle source changes. Only the groups of the changed elements are touched,
+	 * so each change costs O(log n), or O(log^2 n) when an element enters a group
+	 * other than at its end, whatever the number of groups.
+	 */
+	private void onChanged(List<ListChange<E>> changes) {
+		handlingChanges = true;
+		try {
+			for (ListChange<E> change : changes) {
+				int i = change.getIndex();
+				switch (change.getType()) {
+				case ADDED:
+					added(i, change.getNewElement());
+					break;
+				case REMOVED:
+					removed(i);
+					break;
+				case REPLACED:
+					replaced(i, change.getNewElement());
+					break;
+				}
+			}
+		} finally {
+			handlingChanges = false;
+			List<Group> ended = new ArrayList<>(batch);
+			batch.clear();
+			for (Group group : ended)
+				if (group.isEmpty() && groups.get(group.key) == group)
+					groups.remove(group.key);
+			for (Group group : ended) {
+				group.inBatch = false;
+				group.endBatch();
+			}
+		}
+	}
+
+	private void added(int i, E element) {
+		Member member = new Member(element);
+		member.node = elements.insert(i, member, false);
+		group(classificator.apply(element)).add(member, i);
+	}
+
+	private void removed(int i) {
+		RankTree.Node<Member> node = elements.node(i);
+		Member member = node.value;
+		group(member.group.key).remove(member);
+		elements.remove(node);
+	}
+
+	private void replaced(int i, E element) {
+		Member member = elements.node(i).value;
+		E old = member.element;
+		Group oldGroup = group(member.group.key);
+		Group newGroup = group(classificator.apply(element));
+		if (newGroup == oldGroup) {
+			member.element = element;
+			oldGroup.fire(ListChange.replaced(oldGroup.members.index(member.groupNode), old, element));
+		} else {
+			oldGroup.remove(member);
+			member.element = element;
+			newGroup.add(member, i);
+		}
+	}
+
+	/**
+	 * Stop listening to source changes. After that, groups are no more updated.
+	 */
+	@Override
+	public void close() {
+		source.removeListener(listener);
+	}
+
+	/**
+	 * A source element, together with its group.
+	 */
+	private final class Member {
+
+		E element;
+		RankTree.Node<Member> node;
+		Group group;
+		RankTree.Node<Member> groupNode;
+
+		Member(E element) {
+			this.element = element;
+		}
+	}
+
+	/**
+	 * Elements with the same key, in source order.
+	 */
+	private final class Group extends LiveListXt<E> {
+
+		final R key;
+		final RankTree<Member> members = new RankTree<>();
+		boolean inBatch;
+
+		Group(R key) {
+			this.key = key;
+		}
+
+		@Override
+		public E get(int index) {
+			if (index < 0 || index >= size())
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+			return members.node(index).value.element;
+		}
+
+		@Override
+		public int size() {
+			return members.size();
+		}
+
+		/**
+		 * Add given member, whose source index is i.
+		 */
+		void add(Member member, int i) {
+			int p = i == elements.size() - 1 ? members.size()
+					: members.lowerBound(m -> elements.index(m.node), i);
+			member.group = this;
+			member.groupNode = members.insert(p, member, false);
+			++modCount;
+			fire(ListChange.added(p, member.element));
+		}
+
+		void remove(Member member) {
+			int p = members.index(member.groupNode);
+			members.remove(member.groupNode);
+			member.group = null;
+			member.groupNode = null;
+			++modCount;
+			fire(ListChange.removed(p, member.element));
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
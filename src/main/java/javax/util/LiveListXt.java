@@ -0,0 +1,185 @@
+package javax.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A read-only view over an <code>ObservableListXt</code>, kept up to date
+ * incrementally from the changes of its source. A live view is observable in
+ * turn, so views can be chained, and listeners receive one batch of derived
+ * changes per batch of source changes.
+ *
+ * Views keep listening to their source until they are closed.
+ *
+ * @author luca vercelli 2022
+ *
+ * @param <E>
+ */
+public abstract class LiveListXt<E> extends AbstractObservableListXt<E> implements RandomAccess, AutoCloseable {
+
+	/**
+	 * Stop listening to source changes. After that, the view is no more updated.
+	 */
+	@Override
+	public abstract void close();
+
+	/**
+	 * View of the source elements matching a predicate. All source elements are
+	 * stored in a <code>RankTree</code>, where matching ones are marked, so that
+	 * any change to the source costs O(log n), wherever it happens.
+	 */
+	static class FilterView<E> extends LiveListXt<E> {
+
+		private final ObservableListXt<E> source;
+		private final Predicate<? super E> predicate;
+		private final RankTree<E> elements = new RankTree<>();
+		private final ListChangeListener<E> listener = this::onChanged;
+
+		FilterView(ObservableListXt<E> source, Predicate<? super E> predicate) {
+			this.source = source;
+			this.predicate = predicate;
+			for (E element : source)
+				elements.insert(elements.size(), element, predicate.test(element));
+			source.addListener(listener);
+		}
+
+		@Override
+		public E get(int index) {
+			if (index < 0 || index >= size())
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+			return elements.markedNode(index).value;
+		}
+
+		@Override
+		public int size() {
+			return elements.markedCount();
+		}
+
+		private void onChanged(List<ListChange<E>> changes) {
+			beginBatch();
+			try {
+				for (ListChange<E> change : changes) {
+					int i = change.getIndex();
+					switch (change.getType()) {
+					case ADDED:
+						added(i, change.getNewElement());
+						break;
+					case REMOVED:
+						removed(i);
+						break;
+					case REPLACED:
+						replaced(i, change.getNewElement());
+						break;
+					}
+				}
+			} finally {
+				endBatch();
+			}
+		}
+
+		private void added(int i, E element) {
+			boolean member = predicate.test(element);
+			elements.insert(i, element, member);
+			if (member) {
+				++modCount;
+				fire(ListChange.added(elements.markedBefore(i), element));
+			}
+		}
+
+		private void removed(int i) {
+			RankTree.Node<E> node = elements.node(i);
+			if (node.isMarked()) {
+				++modCount;
+				fire(ListChange.removed(elements.markedBefore(i), node.value));
+			}
+			elements.remove(node);
+		}
+
+		private void replaced(int i, E element) {
+			RankTree.Node<E> node = elements.node(i);
+			E old = node.value;
+			boolean wasMember = node.isMarked();
+			boolean member = predicate.test(element);
+			node.value = element;
+			elements.setMarked(node, member);
+			int p = elements.markedBefore(i);
+			if (wasMember && member) {
+				fire(ListChange.replaced(p, old, element));
+			} else if (wasMember) {
+				++modCount;
+				fire(ListChange.removed(p, old));
+			} else if (member) {
+				++modCount;
+				fire(ListChange.added(p, element));
+			}
+		}
+
+		@Override
+		public void close() {
+			source.removeListener(listener);
+		}
+	}
+
+	static class MapView<S, E> extends LiveListXt<E> {
+
+		private final ObservableListXt<S> source;
+		private final Function<? super S, ? extends E> mapper;
+		private final ArrayList<E> values;
+		private final ListChangeListener<S> listener = this::onChanged;
+
+		MapView(ObservableListXt<S> source, Function<? super S, ? extends E> mapper) {
+			this.source = source;
+			this.mapper = mapper;
+			values = new ArrayList<>(source.size());
+			for (S element : source)
+				values.add(mapper.apply(element));
+			source.addListener(listener);
+		}
+
+		@Override
+		public E get(int index) {
+			return values.get(index);
+		}
+
+		@Override
+		public int size() {
+			return values.size();
+		}
+
+		private void onChanged(List<ListChange<S>> changes) {
+			beginBatch();
+			try {
+				for (ListChange<S> change : changes) {
+					int i = change.getIndex();
+					switch (change.getType()) {
+					case ADDED:
+						E value = mapper.apply(change.getNewElement());
+						values.add(i, value);
+						++modCount;
+						fire(ListChange.added(i, value));
+						break;
+					case REMOVED:
+						E old = values.remove(i);
+						++modCount;
+						fire(ListChange.removed(i, old));
+						break;
+					case REPLACED:
+						E replacing = mapper.apply(change.getNewElement());
+						fire(ListChange.replaced(i, values.set(i, replacing), replacing));
+						break;
+					}
+				}
+			} finally {
+				endBatch();
+			}
+		}
+
+		@Override
+		public void close() {
+			source.removeListener(listener);
+		}
+	}
+}
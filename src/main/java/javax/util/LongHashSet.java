@@ -0,0 +1,80 @@
+package javax.util;
+
+/**
+ * Minimal open-addressing hash set of primitive longs, with linear probing. It
+ * is used by primitive lists to avoid boxing in distinct/contains operations.
+ *
+ * @author luca vercelli 2022
+ *
+ */
+class LongHashSet {
+
+	/**
+	 * 0 marks a free slot, so it is tracked separately.
+	 */
+	private boolean containsZero;
+	private long[] keys;
+	private int mask;
+	private int size;
+
+	LongHashSet(int expectedSize) {
+		int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+		keys = new long[capacity];
+		mask = capacity - 1;
+	}
+
+	/**
+	 * Add given value to the set.
+	 *
+	 * @return true if the value was not already present
+	 */
+	boolean add(long value) {
+		if (value == 0) {
+			if (containsZero)
+				return false;
+			containsZero = true;
+			return true;
+		}
+		int i = slot(value);
+		while (keys[i] != 0) {
+			if (keys[i] == value)
+				return false;
+			i = (i + 1) & mask;
+		}
+		keys[i] = value;
+		if (++size * 2 > keys.length)
+			rehash();
+		return true;
+	}
+
+	boolean contains(long value) {
+		if (value == 0)
+			return containsZero;
+		int i = slot(value);
+		while (keys[i] != 0) {
+			if (keys[i] == value)
+				return true;
+			i = (i + 1) & mask;
+		}
+		return false;
+	}
+
+	private int slot(long value) {
+		long h = value * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & mask;
+	}
+
+	private void rehash() {
+		long[] old = keys;
+		keys = new long[old.length * 2];
+		mask = keys.length - 1;
+		for (long value : old) {
+			if (value != 0) {
+				int i = slot(value);
+				while (keys[i] != 0)
+					i = (i + 1) & mask;
+				keys[i] = value;
+			}
+		}
+	}
+}
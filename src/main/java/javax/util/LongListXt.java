@@ -0,0 +1,390 @@
+package javax.util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.RandomAccess;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A ListXt of Long's backed by a primitive <code>long[]</code>. Besides the
+ * usual List methods, which box, it provides primitive methods such as
+ * <code>getLong</code>, <code>filterLong</code> and <code>mapLong</code>, so that
+ * hot loops never box. Null elements are not allowed.
+ *
+ * @author luca vercelli 2022
+ *
+ */
+public class LongListXt extends AbstractList<Long> implements ListXt<Long>, RandomAccess, Serializable {
+
+	private static final long serialVersionUID = -6081392754628311274L;
+
+	private long[] elements;
+	private int size;
+
+	public LongListXt() {
+		this(10);
+	}
+
+	public LongListXt(int initialCapacity) {
+		if (initialCapacity < 0)
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		elements = new long[initialCapacity];
+	}
+
+	public LongListXt(long[] elements) {
+		this.elements = elements.clone();
+		size = elements.length;
+	}
+
+	public LongListXt(Collection<? extends Long> elements) {
+		this(elements.size());
+		for (Long element : elements)
+			addLong(element);
+	}
+
+	/**
+	 * Create a list of n equal elements
+	 *
+	 * @param element
+	 * @param n
+	 * @return
+	 */
+	public static LongListXt sequence(long element, int n) {
+		LongListXt l = new LongListXt(n);
+		Arrays.fill(l.elements, 0, n, element);
+		l.size = n;
+		return l;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Long get(int index) {
+		return getLong(index);
+	}
+
+	/**
+	 * Primitive version of <code>get</code>.
+	 */
+	public long getLong(int index) {
+		checkIndex(index);
+		return elements[index];
+	}
+
+	@Override
+	public Long set(int index, Long element) {
+		return setLong(index, element);
+	}
+
+	/**
+	 * Primitive version of <code>set</code>.
+	 *
+	 * @return the element previously at the specified position
+	 */
+	public long setLong(int index, long element) {
+		checkIndex(index);
+		long old = elements[index];
+		elements[index] = element;
+		return old;
+	}
+
+	@Override
+	public boolean add(Long element) {
+		return addLong(element);
+	}
+
+	/**
+	 * Primitive version of <code>add</code>.
+	 *
+	 * @return true
+	 */
+	public boolean addLong(long element) {
+		ensureCapacity(size + 1);
+		elements[size++] = element;
+		return true;
+	}
+
+	@Override
+	public void add(int index, Long element) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		long value = element;
+		ensureCapacity(size + 1);
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+		elements[index] = value;
+		++size;
+	}
+
+	@Override
+	public Long remove(int index) {
+		checkIndex(index);
+		long old = elements[index];
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		--size;
+		++modCount;
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		++modCount;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return o instanceof Long && containsLong((Long) o);
+	}
+
+	/**
+	 * Primitive version of <code>contains</code>.
+	 */
+	public boolean containsLong(long value) {
+		for (int i = 0; i < size; ++i)
+			if (elements[i] == value)
+				return true;
+		return false;
+	}
+
+	/**
+	 * Returns true if this list contains all elements of the given collection. For
+	 * large collections a primitive hash set of this list is built, so that the
+	 * check is linear instead of quadratic.
+	 */
+	@Override
+	public boolean containsAll(Collection<?> c) {
+		if (c.size() <= 8)
+			return super.containsAll(c);
+		LongHashSet set = new LongHashSet(size);
+		for (int i = 0; i < size; ++i)
+			set.add(elements[i]);
+		for (Object o : c)
+			if (!(o instanceof Long) || !set.contains((Long) o))
+				return false;
+		return true;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		if (o instanceof Long) {
+			long value = (Long) o;
+			for (int i = 0; i < size; ++i)
+				if (elements[i] == value)
+					return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Return a copy of list elements.
+	 */
+	public long[] toLongArray() {
+		return Arrays.copyOf(elements, size);
+	}
+
+	/**
+	 * Sum list elements. Unlike NumberListXt, the result is exact. Partial sums
+	 * may overflow, as long as the total fits in a long.
+	 *
+	 * @return sum of elements, and in particular 0 if list is empty
+	 * @throws <code>ArithmeticException</code> if the result overflows a long
+	 */
+	public long sum() {
+		long current = 0;
+		// number of times the partial sum wrapped around, upwards minus downwards
+		long carry = 0;
+		for (int i = 0; i < size; ++i) {
+			long x = elements[i];
+			long next = current + x;
+			if (((current ^ next) & (x ^ next)) < 0)
+				carry += x < 0 ? -1 : 1;
+			current = next;
+		}
+		if (carry != 0)
+			throw new ArithmeticException("long overflow");
+		return current;
+	}
+
+	@Override
+	public Long max() {
+		return isEmpty() ? null : maxLong();
+	}
+
+	@Override
+	public Long min() {
+		return isEmpty() ? null : minLong();
+	}
+
+	/**
+	 * Primitive version of <code>max</code>.
+	 *
+	 * @throws <code>IllegalArgumentException</code> if list is empty
+	 */
+	public long maxLong() {
+		if (isEmpty())
+			throw new IllegalArgumentException("Cannot calculate max of empty list");
+		long current = elements[0];
+		for (int i = 1; i < size; ++i)
+			if (elements[i] > current)
+				current = elements[i];
+		return current;
+	}
+
+	/**
+	 * Primitive version of <code>min</code>.
+	 *
+	 * @throws <code>IllegalArgumentException</code> if list is empty
+	 */
+	public long minLong() {
+		if (isEmpty())
+			throw new IllegalArgumentException("Cannot calculate min of empty list");
+		long current = elements[0];
+		for (int i = 1; i < size; ++i)
+			if (elements[i] < current)
+				current = elements[i];
+		return current;
+	}
+
+	/**
+	 * Returns a list consisting of the distinct elements of this list, in order of
+	 * first occurrence. Uses a bitset if values are dense, an open-addressing hash
+	 * set otherwise.
+	 *
+	 * @return the new list
+	 */
+	@Override
+	public LongListXt distinct() {
+		LongListXt l = new LongListXt();
+		if (isEmpty())
+			return l;
+		long min = minLong();
+		// negative if the difference overflows
+		long range = maxLong() - min + 1;
+		if (range > 0 && range <= Integer.MAX_VALUE && range <= 64L * size) {
+			BitSet seen = new BitSet((int) range);
+			for (int i = 0; i < size; ++i) {
+				int k = (int) (elements[i] - min);
+				if (!seen.get(k)) {
+					seen.set(k);
+					l.addLong(elements[i]);
+				}
+			}
+		} else {
+			LongHashSet seen = new LongHashSet(size);
+			for (int i = 0; i < size; ++i)
+				if (seen.add(elements[i]))
+					l.addLong(elements[i]);
+		}
+		return l;
+	}
+
+	/**
+	 * Returns a list consisting of the elements of this list, sorted according to
+	 * natural order. Uses a counting sort if values are dense, a LSD radix sort
+	 * otherwise.
+	 *
+	 * @return the new list
+	 */
+	@Override
+	public LongListXt sorted() {
+		LongListXt l = new LongListXt(toLongArray());
+		if (size > 1) {
+			long min = minLong();
+			// negative if the difference overflows
+			long range = maxLong() - min + 1;
+			if (range > 0 && range <= size)
+				countingSort(l.elements, min, (int) range);
+			else
+				radixSort(l.elements);
+		}
+		return l;
+	}
+
+	private static void countingSort(long[] a, long min, int range) {
+		int[] count = new int[range];
+		for (long x : a)
+			++count[(int) (x - min)];
+		int k = 0;
+		for (int v = 0; v < range; ++v)
+			for (int c = count[v]; c > 0; --c)
+				a[k++] = v + min;
+	}
+
+	private static void radixSort(long[] a) {
+		int n = a.length;
+		int[] count = new int[8 * 256];
+		for (long x : a) {
+			long u = x ^ Long.MIN_VALUE;
+			for (int p = 0; p < 8; ++p)
+				++count[p * 256 + (int) ((u >>> (8 * p)) & 0xFF)];
+		}
+		long[] src = a;
+		long[] dst = new long[n];
+		for (int p = 0; p < 8; ++p) {
+			int base = p * 256;
+			// skip passes where all elements have the same digit
+			if (count[base + (int) (((src[0] ^ Long.MIN_VALUE) >>> (8 * p)) & 0xFF)] == n)
+				continue;
+			int offset = 0;
+			for (int d = 0; d < 256; ++d) {
+				int c = count[base + d];
+				count[base + d] = offset;
+				offset += c;
+			}
+			for (long x : src)
+				dst[count[base + (int) (((x ^ Long.MIN_VALUE) >>> (8 * p)) & 0xFF)]++] = x;
+			long[] t = src;
+			src = dst;
+			dst = t;
+		}
+		if (src != a)
+			System.arraycopy(src, 0, a, 0, n);
+	}
+
+	/**
+	 * Primitive version of <code>filter</code>.
+	 *
+	 * @param predicate a non-interfering, stateless predicate to apply to each
+	 *                  element to determine if it should be included
+	 * @return the new list
+	 */
+	public LongListXt filterLong(LongPredicate predicate) {
+		LongListXt l = new LongListXt();
+		for (int i = 0; i < size; ++i)
+			if (predicate.test(elements[i]))
+				l.addLong(elements[i]);
+		return l;
+	}
+
+	/**
+	 * Primitive version of <code>map</code>.
+	 *
+	 * @param mapper a non-interfering, stateless function to apply to each element
+	 * @return the new list
+	 */
+	public LongListXt mapLong(LongUnaryOperator mapper) {
+		LongListXt l = new LongListXt(size);
+		for (int i = 0; i < size; ++i)
+			l.elements[i] = mapper.applyAsLong(elements[i]);
+		l.size = size;
+		return l;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+	}
+
+	private void ensureCapacity(int capacity) {
+		++modCount;
+		if (capacity > elements.length)
+			elements = Arrays.copyOf(elements, Math.max(capacity, elements.length + (elements.length >> 1) + 1));
+	}
+}
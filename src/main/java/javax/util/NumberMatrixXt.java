@@ -0,0 +1,506 @@
+package javax.util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * A dense matrix of numbers, stored row-major inside a single contiguous
+ * <code>double[]</code>. Rows and columns are exposed as
+ * <code>NumberListXt</code> views over the same array, so all vector and
+ * statistical operations are available on them without copying.
+ *
+ * Matrix-vector and matrix-matrix multiplications work on square tiles, so that
+ * the operands stay in cache, and can optionally be split by row blocks over
+ * the common <code>ForkJoinPool</code>.
+ *
+ * @author luca vercelli 2022
+ *
+ */
+public class NumberMatrixXt implements Serializable {
+
+	private static final long serialVersionUID = -2967012285147402271L;
+
+	/**
+	 * Side of the square tiles used by blocked algorithms. 64x64 doubles take
+	 * 32KB, so that a couple of tiles fit in L1/L2 cache.
+	 */
+	static final int BLOCK = 64;
+
+	private final int rows;
+	private final int cols;
+	private final double[] data;
+
+	/**
+	 * Create a zero matrix.
+	 *
+	 * @param rows number of rows
+	 * @param cols number of columns
+	 * @throws <code>IllegalArgumentException</code> if size is negative or too
+	 * large
+	 */
+	public NumberMatrixXt(int rows, int cols) {
+		this(rows, cols, new double[checkedSize(rows, cols)]);
+	}
+
+	/**
+	 * Create a matrix backed by the given row-major array. The array is not
+	 * copied, so later changes to it are reflected in the matrix.
+	 *
+	 * @param rows number of rows
+	 * @param cols number of columns
+	 * @param data row-major array of rows*cols elements
+	 * @throws <code>IllegalArgumentException</code> if array length does not
+	 * match matrix size
+	 */
+	public NumberMatrixXt(int rows, int cols, double[] data) {
+		if (data.length != checkedSize(rows, cols))
+			throw new IllegalArgumentException("Array length does not match matrix size");
+		this.rows = rows;
+		this.cols = cols;
+		this.data = data;
+	}
+
+	/**
+	 * Create a matrix copying the given list of rows, e.g. a
+	 * <code>ListXt</code> of <code>NumberListXt</code>'s.
+	 *
+	 * @param elements list of rows, all of the same size
+	 * @throws <code>IllegalArgumentException</code> if rows have different size
+	 */
+	public NumberMatrixXt(List<? extends List<? extends Number>> elements) {
+		this(elements.size(), elements.isEmpty() ? 0 : elements.get(0).size());
+		int i = 0;
+		for (List<? extends Number> row : elements) {
+			if (row.size() != cols)
+				throw new IllegalArgumentException("Cannot create matrix from rows of different size");
+			int offset = i * cols;
+			for (Number element : row) {
+				data[offset++] = element.doubleValue();
+			}
+			++i;
+		}
+	}
+
+	/**
+	 * Create the identity matrix of given size.
+	 *
+	 * @param n number of rows and columns
+	 * @return new matrix
+	 */
+	public static NumberMatrixXt identity(int n) {
+		NumberMatrixXt m = new NumberMatrixXt(n, n);
+		for (int i = 0; i < n; ++i) {
+			m.data[i * n + i] = 1;
+		}
+		return m;
+	}
+
+	private static int checkedSize(int rows, int cols) {
+		if (rows < 0 || cols < 0)
+			throw new IllegalArgumentException("Matrix size cannot be negative");
+		long size = (long) rows * cols;
+		if (size > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Matrix too large");
+		return (int) size;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getCols() {
+		return cols;
+	}
+
+	/**
+	 * Return element at given position.
+	 *
+	 * @throws <code>IndexOutOfBoundsException</code> if position is outside matrix
+	 */
+	public double get(int i, int j) {
+		return data[index(i, j)];
+	}
+
+	/**
+	 * Replace element at given position.
+	 *
+	 * @throws <code>IndexOutOfBoundsException</code> if position is outside matrix
+	 */
+	public void set(int i, int j, double value) {
+		data[index(i, j)] = value;
+	}
+
+	private int index(int i, int j) {
+		if (i < 0 || i >= rows || j < 0 || j >= cols)
+			throw new IndexOutOfBoundsException("Position: (" + i + ", " + j + "), Size: " + rows + "x" + cols);
+		return i * cols + j;
+	}
+
+	/**
+	 * Return a fixed-size view of the i-th row. Changes to the view are reflected
+	 * in this matrix, and vice versa.
+	 *
+	 * @return row view
+	 */
+	public NumberListXt row(int i) {
+		if (i < 0 || i >= rows)
+			throw new IndexOutOfBoundsException("Row: " + i + ", Rows: " + rows);
+		return new DoubleArrayView(data, i * cols, cols, 1);
+	}
+
+	/**
+	 * Return a fixed-size view of the j-th column. Changes to the view are
+	 * reflected in this matrix, and vice versa.
+	 *
+	 * @return column view
+	 */
+	public NumberListXt column(int j) {
+		if (j < 0 || j >= cols)
+			throw new IndexOutOfBoundsException("Column: " + j + ", Columns: " + cols);
+		return new DoubleArrayView(data, j, rows, cols);
+	}
+
+	/**
+	 * Return the list of row views.
+	 *
+	 * @return new list
+	 */
+	public ListXt<NumberListXt> rows() {
+		ListXt<NumberListXt> l = new ArrayListXt<>(rows);
+		for (int i = 0; i < rows; ++i) {
+			l.add(row(i));
+		}
+		return l;
+	}
+
+	/**
+	 * Return the transpose of this matrix.
+	 *
+	 * @return new matrix
+	 */
+	public NumberMatrixXt transpose() {
+		double[] t = new double[data.length];
+		for (int ii = 0; ii < rows; ii += BLOCK) {
+			int iMax = Math.min(ii + BLOCK, rows);
+			for (int jj = 0; jj < cols; jj += BLOCK) {
+				int jMax = Math.min(jj + BLOCK, cols);
+				for (int i = ii; i < iMax; ++i) {
+					for (int j = jj; j < jMax; ++j) {
+						t[j * rows + i] = data[i * cols + j];
+					}
+				}
+			}
+		}
+		return new NumberMatrixXt(cols, rows, t);
+	}
+
+	/**
+	 * Matrix-vector multiplication.
+	 *
+	 * @return new vector, of size <code>getRows()</code>
+	 * @throws <code>IllegalArgumentException</code> if vector size differs from
+	 * <code>getCols()</code>
+	 */
+	public NumberListXt mul(List<? extends Number> vector) {
+		return mul(vector, false);
+	}
+
+	/**
+	 * Matrix-vector multiplication, optionally splitting row blocks over the
+	 * common <code>ForkJoinPool</code>.
+	 *
+	 * @return new vector, of size <code>getRows()</code>
+	 * @throws <code>IllegalArgumentException</code> if vector size differs from
+	 * <code>getCols()</code>
+	 */
+	public NumberListXt mul(List<? extends Number> vector, boolean parallel) {
+		if (vector.size() != cols)
+			throw new IllegalArgumentException("Cannot multiply matrix by vector of different size");
+		double[] x = toArray(vector);
+		double[] y = new double[rows];
+		forEachRowBlock(parallel, (from, to) -> {
+			// walk x one tile at a time, so that it stays in cache across rows
+			for (int jj = 0; jj < cols; jj += BLOCK) {
+				int jMax = Math.min(jj + BLOCK, cols);
+				for (int i = from; i < to; ++i) {
+					int offset = i * cols;
+					double current = 0;
+					for (int j = jj; j < jMax; ++j) {
+						current += data[offset + j] * x[j];
+					}
+					y[i] += current;
+				}
+			}
+		});
+		return new DoubleArrayView(y, 0, rows, 1);
+	}
+
+	/**
+	 * Matrix-matrix multiplication.
+	 *
+	 * @return new matrix
+	 * @throws <code>IllegalArgumentException</code> if <code>getCols()</code>
+	 * differs from <code>other.getRows()</code>
+	 */
+	public NumberMatrixXt mul(NumberMatrixXt other) {
+		return mul(other, false);
+	}
+
+	/**
+	 * Matrix-matrix multiplication, optionally splitting row blocks over the
+	 * common <code>ForkJoinPool</code>.
+	 *
+	 * @return new matrix
+	 * @throws <code>IllegalArgumentException</code> if <code>getCols()</code>
+	 * differs from <code>other.getRows()</code>
+	 */
+	public NumberMatrixXt mul(NumberMatrixXt other, boolean parallel) {
+		if (cols != other.rows)
+			throw new IllegalArgumentException("Cannot multiply matrices of incompatible size");
+		int n = other.cols;
+		double[] a = data;
+		double[] b = other.data;
+		double[] c = new double[checkedSize(rows, n)];
+		forEachRowBlock(parallel, (from, to) -> {
+			for (int kk = 0; kk < cols; kk += BLOCK) {
+				int kMax = Math.min(kk + BLOCK, cols);
+				for (int jj = 0; jj < n; jj += BLOCK) {
+					int jMax = Math.min(jj + BLOCK, n);
+					for (int i = from; i < to; ++i) {
+						int aRow = i * cols;
+						int cRow = i * n;
+						for (int k = kk; k < kMax; ++k) {
+							double x = a[aRow + k];
+							int bRow = k * n;
+							for (int j = jj; j < jMax; ++j) {
+								c[cRow + j] += x * b[bRow + j];
+							}
+						}
+					}
+				}
+			}
+		});
+		return new NumberMatrixXt(rows, n, c);
+	}
+
+	/**
+	 * Sum of each row.
+	 *
+	 * @return new vector, of size <code>getRows()</code>
+	 */
+	public NumberListXt rowSums() {
+		double[] y = new double[rows];
+		for (int i = 0; i < rows; ++i) {
+			int offset = i * cols;
+			double current = 0;
+			for (int j = 0; j < cols; ++j) {
+				current += data[offset + j];
+			}
+			y[i] = current;
+		}
+		return new DoubleArrayView(y, 0, rows, 1);
+	}
+
+	/**
+	 * Sum of each column.
+	 *
+	 * @return new vector, of size <code>getCols()</code>
+	 */
+	public NumberListXt columnSums() {
+		double[] y = new double[cols];
+		// scan row by row, so that memory is accessed sequentially
+		for (int i = 0; i < rows; ++i) {
+			int offset = i * cols;
+			for (int j = 0; j < cols; ++j) {
+				y[j] += data[offset + j];
+			}
+		}
+		return new DoubleArrayView(y, 0, cols, 1);
+	}
+
+	/**
+	 * Apply some aggregate function to each row, e.g.
+	 * <code>m.rowAggregate(NumberListXt::avg)</code>.
+	 *
+	 * @param aggregator a non-interfering, stateless function to apply to each
+	 *                   row view
+	 * @return new vector, of size <code>getRows()</code>
+	 */
+	public NumberListXt rowAggregate(Function<? super NumberListXt, ? extends Number> aggregator) {
+		double[] y = new double[rows];
+		for (int i = 0; i < rows; ++i) {
+			y[i] = aggregator.apply(row(i)).doubleValue();
+		}
+		return new DoubleArrayView(y, 0, rows, 1);
+	}
+
+	/**
+	 * Apply some aggregate function to each column, e.g.
+	 * <code>m.columnAggregate(NumberListXt::sigma)</code>.
+	 *
+	 * @param aggregator a non-interfering, stateless function to apply to each
+	 *                   column view
+	 * @return new vector, of size <code>getCols()</code>
+	 */
+	public NumberListXt columnAggregate(Function<? super NumberListXt, ? extends Number> aggregator) {
+		double[] y = new double[cols];
+		for (int j = 0; j < cols; ++j) {
+			y[j] = aggregator.apply(column(j)).doubleValue();
+		}
+		return new DoubleArrayView(y, 0, cols, 1);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof NumberMatrixXt))
+			return false;
+		NumberMatrixXt other = (NumberMatrixXt) obj;
+		return rows == other.rows && cols == other.cols && Arrays.equals(data, other.data);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * rows + cols) + Arrays.hashCode(data);
+	}
+
+	@Override
+	public String toString() {
+		return rows().toString();
+	}
+
+	private static double[] toArray(List<? extends Number> vector) {
+		double[] x = new double[vector.size()];
+		int i = 0;
+		for (Number element : vector) {
+			x[i++] = element.doubleValue();
+		}
+		return x;
+	}
+
+	/**
+	 * Run given action on all rows, possibly splitting them in blocks of
+	 * <code>BLOCK</code> rows over the common <code>ForkJoinPool</code>.
+	 */
+	private void forEachRowBlock(boolean parallel, RowBlockAction action) {
+		if (!parallel || rows <= BLOCK) {
+			for (int i = 0; i < rows; i += BLOCK) {
+				action.apply(i, Math.min(i + BLOCK, rows));
+			}
+		} else {
+			ForkJoinPool.commonPool().invoke(new RowBlockTask(0, rows, action));
+		}
+	}
+
+	@FunctionalInterface
+	private interface RowBlockAction {
+		void apply(int from, int to);
+	}
+
+	private static class RowBlockTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 4620314409568236917L;
+
+		private final int from;
+		private final int to;
+		private final RowBlockAction action;
+
+		RowBlockTask(int from, int to, RowBlockAction action) {
+			this.from = from;
+			this.to = to;
+			this.action = action;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= BLOCK) {
+				action.apply(from, to);
+			} else {
+				// split on a block boundary
+				int mid = from + ((to - from) / BLOCK + 1) / 2 * BLOCK;
+				invokeAll(new RowBlockTask(from, mid, action), new RowBlockTask(mid, to, action));
+			}
+		}
+	}
+
+	/**
+	 * Fixed-size view over a strided slice of a <code>double[]</code>.
+	 */
+	private static class DoubleArrayView extends AbstractList<Number> implements NumberListXt, RandomAccess {
+
+		private final double[] data;
+		private final int offset;
+		private final int size;
+		private final int stride;
+
+		DoubleArrayView(double[] data, int offset, int size, int stride) {
+			this.data = data;
+			this.offset = offset;
+			this.size = size;
+			this.stride = stride;
+		}
+
+		@Override
+		public Number get(int index) {
+			return data[index(index)];
+		}
+
+		@Override
+		public Number set(int index, Number element) {
+			int i = index(index);
+			double old = data[i];
+			data[i] = element.doubleValue();
+			return old;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		private int index(int index) {
+			if (index < 0 || index >= size)
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+			return offset + index * stride;
+		}
+
+		@Override
+		public double sum() {
+			double current = 0;
+			for (int i = 0, k = offset; i < size; ++i, k += stride) {
+				current += data[k];
+			}
+			return current;
+		}
+
+		@Override
+		public double norm() {
+			double current = 0;
+			for (int i = 0, k = offset; i < size; ++i, k += stride) {
+				current += data[k] * data[k];
+			}
+			return Math.sqrt(current);
+		}
+
+		@Override
+		public double mul(ListXt<Number> other) {
+			if (size != other.size())
+				throw new IllegalArgumentException("Cannot multiply vectors of different size");
+			if (!(other instanceof DoubleArrayView))
+				return NumberListXt.super.mul(other);
+			DoubleArrayView v = (DoubleArrayView) other;
+			double current = 0;
+			for (int i = 0, k = offset, h = v.offset; i < size; ++i, k += stride, h += v.stride) {
+				current += data[k] * v.data[h];
+			}
+			return current;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package javax.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * An array-backed ObservableListXt. Every change is notified to listeners as
+ * soon as it happens, unless it is performed inside <code>batch</code>.
+ *
+ * @author luca vercelli 2022
+ *
+ * @param <E>
+ */
+public class ObservableArrayListXt<E> extends AbstractObservableListXt<E> implements RandomAccess {
+
+	private final ArrayList<E> elements;
+
+	public ObservableArrayListXt() {
+		elements = new ArrayList<>();
+	}
+
+	public ObservableArrayListXt(Collection<? extends E> elements) {
+		this.elements = new ArrayList<>(elements);
+	}
+
+	public ObservableArrayListXt(E[] elements) {
+		this(Arrays.asList(elements));
+	}
+
+	public ObservableArrayListXt(int initialCapacity) {
+		elements = new ArrayList<>(initialCapacity);
+	}
+
+	/**
+	 * Perform several updates, notifying listeners only once at the end.
+	 * 
+	 * @param updates the updates to perform on this list
+	 */
+	public void batch(Runnable updates) {
+		beginBatch();
+		try {
+			updates.run();
+		} finally {
+			endBatch();
+		}
+	}
+
+	@Override
+	public E get(int index) {
+		return elements.get(index);
+	}
+
+	@Override
+	public int size() {
+		return elements.size();
+	}
+
+	@Override
+	public E set(int index, E element) {
+		E old = elements.set(index, element);
+		fire(ListChange.replaced(index, old, element));
+		return old;
+	}
+
+	@Override
+	public void add(int index, E element) {
+		elements.add(index, element);
+		++modCount;
+		fire(ListChange.added(index, element));
+	}
+
+	@Override
+	public E remove(int index) {
+		E old = elements.remove(index);
+		++modCount;
+		fire(ListChange.removed(index, old));
+		return old;
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends E> c) {
+		beginBatch();
+		try {
+			return super.addAll(c);
+		} finally {
+			endBatch();
+		}
+	}
+
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		beginBatch();
+		try {
+			// remove from the end, so that clear() never shifts elements
+			for (int i = toIndex - 1; i >= fromIndex; --i)
+				remove(i);
+		} finally {
+			endBatch();
+		}
+	}
+}
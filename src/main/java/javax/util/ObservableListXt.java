@@ -0,0 +1,65 @@
+package javax.util;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A ListXt notifying its changes to listeners. Besides, it can return live
+ * views, i.e. results of filter, map and classify that are kept up to date
+ * incrementally, instead of being recomputed after each change.
+ *
+ * @author luca vercelli 2022
+ *
+ * @param <E>
+ */
+public interface ObservableListXt<E> extends ListXt<E> {
+
+	/**
+	 * Register a listener, that will be notified of all subsequent changes.
+	 */
+	void addListener(ListChangeListener<E> listener);
+
+	/**
+	 * Unregister a listener.
+	 */
+	void removeListener(ListChangeListener<E> listener);
+
+	/**
+	 * Returns a live, read-only view consisting of the elements of this list that
+	 * match the given predicate. The predicate is evaluated once per added or
+	 * replaced element.
+	 * 
+	 * @param predicate a non-interfering, stateless predicate to apply to each
+	 *                  element to determine if it should be included
+	 * @return the view, that should be closed when no more needed
+	 */
+	default LiveListXt<E> liveFilter(Predicate<? super E> predicate) {
+		return new LiveListXt.FilterView<>(this, predicate);
+	}
+
+	/**
+	 * Returns a live, read-only view consisting of the results of applying the
+	 * given function to the elements of this list. The function is evaluated once
+	 * per added or replaced element.
+	 * 
+	 * @param <R>
+	 * @param mapper a non-interfering, stateless function to apply to each element
+	 * @return the view, that should be closed when no more needed
+	 */
+	default <R> LiveListXt<R> liveMap(Function<? super E, ? extends R> mapper) {
+		return new LiveListXt.MapView<>(this, mapper);
+	}
+
+	/**
+	 * Split this list in live groups, according to a classificator function. The
+	 * function is evaluated once per added or replaced element.
+	 * 
+	 * @param <R>           type of group keys
+	 * @param classificator a non-interfering, stateless function mapping each
+	 *                      element into a non-mutable key
+	 * @return the classification, that should be closed when no more needed
+	 */
+	default <R> LiveClassification<R, E> liveClassify(Function<E, R> classificator) {
+		return new LiveClassification<>(this, classificator);
+	}
+}
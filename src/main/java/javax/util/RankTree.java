@@ -0,0 +1,234 @@
+package javax.util;
+
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+/**
+ * A sequence of values stored in an implicit treap, so that inserting, removing
+ * and looking up by position cost O(log n) expected. Each node can be marked,
+ * and the tree also counts and indexes marked nodes, e.g. the elements of a
+ * list matching some filter. Nodes are handles that keep their identity while
+ * their position changes.
+ *
+ * @author luca vercelli 2022
+ *
+ * @param <T>
+ */
+final class RankTree<T> {
+
+	static final class Node<T> {
+
+		T value;
+		private boolean marked;
+		private final int priority;
+		private Node<T> left;
+		private Node<T> right;
+		private Node<T> parent;
+		private int size = 1;
+		private int markedSize;
+
+		private Node(T value, boolean marked, int priority) {
+			this.value = value;
+			this.marked = marked;
+			this.markedSize = marked ? 1 : 0;
+			this.priority = priority;
+		}
+
+		boolean isMarked() {
+			return marked;
+		}
+	}
+
+	private final Random random = new Random();
+	private Node<T> root;
+
+	/**
+	 * Results of the last split.
+	 */
+	private Node<T> splitLeft;
+	private Node<T> splitRight;
+
+	int size() {
+		return size(root);
+	}
+
+	int markedCount() {
+		return markedSize(root);
+	}
+
+	/**
+	 * Insert a new node at given position.
+	 *
+	 * @return the new node
+	 */
+	Node<T> insert(int index, T value, boolean marked) {
+		Node<T> node = new Node<>(value, marked, random.nextInt());
+		split(root, index);
+		Node<T> right = splitRight;
+		setRoot(merge(merge(splitLeft, node), right));
+		return node;
+	}
+
+	void remove(Node<T> node) {
+		split(root, index(node));
+		Node<T> left = splitLeft;
+		split(splitRight, 1);
+		setRoot(merge(left, splitRight));
+		node.parent = null;
+	}
+
+	/**
+	 * Return the node at given position.
+	 */
+	Node<T> node(int index) {
+		Node<T> n = root;
+		while (true) {
+			int s = size(n.left);
+			if (index < s) {
+				n = n.left;
+			} else if (index == s) {
+				return n;
+			} else {
+				index -= s + 1;
+				n = n.right;
+			}
+		}
+	}
+
+	/**
+	 * Return the current position of given node.
+	 */
+	int index(Node<T> node) {
+		int i = size(node.left);
+		for (Node<T> n = node; n.parent != null; n = n.parent)
+			if (n == n.parent.right)
+				i += size(n.parent.left) + 1;
+		return i;
+	}
+
+	/**
+	 * Return the k-th marked node.
+	 */
+	Node<T> markedNode(int k) {
+		Node<T> n = root;
+		while (true) {
+			int m = markedSize(n.left);
+			if (k < m) {
+				n = n.left;
+			} else if (k == m && n.marked) {
+				return n;
+			} else {
+				k -= m + (n.marked ? 1 : 0);
+				n = n.right;
+			}
+		}
+	}
+
+	/**
+	 * Return the number of marked nodes among the first <code>index</code>
+	 * ones.
+	 */
+	int markedBefore(int index) {
+		int count = 0;
+		Node<T> n = root;
+		while (n != null) {
+			int s = size(n.left);
+			if (index <= s) {
+				n = n.left;
+			} else {
+				count += markedSize(n.left) + (n.marked ? 1 : 0);
+				index -= s + 1;
+				n = n.right;
+			}
+		}
+		return count;
+	}
+
+	void setMarked(Node<T> node, boolean marked) {
+		if (node.marked == marked)
+			return;
+		node.marked = marked;
+		int delta = marked ? 1 : -1;
+		for (Node<T> n = node; n != null; n = n.parent)
+			n.markedSize += delta;
+	}
+
+	/**
+	 * Return the number of nodes whose key is less than given one. Keys must be
+	 * ascending along the sequence.
+	 */
+	int lowerBound(ToIntFunction<? super T> key, int target) {
+		int count = 0;
+		Node<T> n = root;
+		while (n != null) {
+			if (key.applyAsInt(n.value) < target) {
+				count += size(n.left) + 1;
+				n = n.right;
+			} else {
+				n = n.left;
+			}
+		}
+		return count;
+	}
+
+	private void setRoot(Node<T> node) {
+		root = node;
+		if (root != null)
+			root.parent = null;
+	}
+
+	/**
+	 * Split given subtree into its first k nodes (splitLeft) and the remaining
+	 * ones (splitRight).
+	 */
+	private void split(Node<T> n, int k) {
+		if (n == null) {
+			splitLeft = null;
+			splitRight = null;
+		} else if (size(n.left) < k) {
+			split(n.right, k - size(n.left) - 1);
+			n.right = splitLeft;
+			splitLeft = update(n);
+		} else {
+			split(n.left, k);
+			n.left = splitRight;
+			splitRight = update(n);
+		}
+		if (splitLeft != null)
+			splitLeft.parent = null;
+		if (splitRight != null)
+			splitRight.parent = null;
+	}
+
+	private Node<T> merge(Node<T> a, Node<T> b) {
+		if (a == null)
+			return b;
+		if (b == null)
+			return a;
+		if (a.priority > b.priority) {
+			a.right = merge(a.right, b);
+			return update(a);
+		} else {
+			b.left = merge(a, b.left);
+			return update(b);
+		}
+	}
+
+	private static <T> Node<T> update(Node<T> n) {
+		n.size = 1 + size(n.left) + size(n.right);
+		n.markedSize = (n.marked ? 1 : 0) + markedSize(n.left) + markedSize(n.right);
+		if (n.left != null)
+			n.left.parent = n;
+		if (n.right != null)
+			n.right.parent = n;
+		return n;
+	}
+
+	private static int size(Node<?> n) {
+		return n == null ? 0 : n.size;
+	}
+
+	private static int markedSize(Node<?> n) {
+		return n == null ? 0 : n.markedSize;
+	}
+}
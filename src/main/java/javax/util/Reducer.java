@@ -0,0 +1,136 @@
+package javax.util;
+
+import java.util.Comparator;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+
+/**
+ * A Collector that may know in advance that further elements cannot change its
+ * result, e.g. once a match has been found. This allows
+ * <code>ListXt.aggregate</code> to stop traversing the list as soon as all of
+ * its reducers are done.
+ *
+ * @author luca vercelli 2022
+ *
+ * @param <E> type of input elements
+ * @param <A> type of the mutable accumulation state
+ * @param <R> type of the result
+ */
+public interface Reducer<E, A, R> extends Collector<E, A, R> {
+
+	/**
+	 * Returns true if further elements cannot change the result.
+	 * 
+	 * @param state current accumulation state
+	 */
+	default boolean isDone(A state) {
+		return false;
+	}
+
+	/**
+	 * Same as <code>ListXt.max(Comparator)</code>.
+	 * 
+	 * @return a reducer whose result is the maximum element, or null if there are
+	 *         no elements
+	 */
+	static <E> Reducer<E, ?, E> max(Comparator<? super E> comparator) {
+		return new Reducers.BoxReducer<E, E, E>((b, e) -> {
+			if (!b.present || comparator.compare(e, b.value) > 0)
+				b.set(e);
+		}, (x, y) -> y.present && (!x.present || comparator.compare(y.value, x.value) > 0) ? y : x, b -> false,
+				b -> b.value);
+	}
+
+	/**
+	 * Same as <code>ListXt.min(Comparator)</code>.
+	 * 
+	 * @return a reducer whose result is the minimum element, or null if there are
+	 *         no elements
+	 */
+	static <E> Reducer<E, ?, E> min(Comparator<? super E> comparator) {
+		return new Reducers.BoxReducer<E, E, E>((b, e) -> {
+			if (!b.present || comparator.compare(e, b.value) < 0)
+				b.set(e);
+		}, (x, y) -> y.present && (!x.present || comparator.compare(y.value, x.value) < 0) ? y : x, b -> false,
+				b -> b.value);
+	}
+
+	/**
+	 * Same as <code>ListXt.reduce(BinaryOperator)</code>.
+	 * 
+	 * @param accumulator an associative, non-interfering, stateless function for
+	 *                    combining two values
+	 * @return a reducer whose result is the reduction, or null if there are no
+	 *         elements
+	 */
+	static <E> Reducer<E, ?, E> reduce(BinaryOperator<E> accumulator) {
+		return new Reducers.BoxReducer<E, E, E>((b, e) -> b.set(b.present ? accumulator.apply(b.value, e) : e),
+				(x, y) -> {
+					if (x.present && y.present)
+						x.set(accumulator.apply(x.value, y.value));
+					return x.present ? x : y;
+				}, b -> false, b -> b.value);
+	}
+
+	/**
+	 * Count elements matching given predicate, i.e.
+	 * <code>filter(predicate).size()</code>.
+	 * 
+	 * @param predicate a non-interfering, stateless predicate to apply to elements
+	 * @return a reducer whose result is the number of matching elements
+	 */
+	static <E> Reducer<E, ?, Long> count(Predicate<? super E> predicate) {
+		return new Reducers.BoxReducer<E, Void, Long>((b, e) -> {
+			if (predicate.test(e))
+				++b.count;
+		}, (x, y) -> {
+			x.count += y.count;
+			return x;
+		}, b -> false, b -> b.count);
+	}
+
+	/**
+	 * Same as <code>ListXt.anyMatch(Predicate)</code>. Done as soon as a matching
+	 * element is found.
+	 * 
+	 * @param predicate a non-interfering, stateless predicate to apply to elements
+	 * @return a reducer whose result is true if any element matches
+	 */
+	static <E> Reducer<E, ?, Boolean> anyMatch(Predicate<? super E> predicate) {
+		return new Reducers.BoxReducer<E, Void, Boolean>((b, e) -> {
+			if (!b.present && predicate.test(e))
+				b.present = true;
+		}, (x, y) -> x.present ? x : y, b -> b.present, b -> b.present);
+	}
+
+	/**
+	 * Same as <code>ListXt.allMatch(Predicate)</code>. Done as soon as a non
+	 * matching element is found.
+	 * 
+	 * @param predicate a non-interfering, stateless predicate to apply to elements
+	 * @return a reducer whose result is true if all elements match
+	 */
+	static <E> Reducer<E, ?, Boolean> allMatch(Predicate<? super E> predicate) {
+		// present means that a non matching element was found
+		return new Reducers.BoxReducer<E, Void, Boolean>((b, e) -> {
+			if (!b.present && !predicate.test(e))
+				b.present = true;
+		}, (x, y) -> x.present ? x : y, b -> b.present, b -> !b.present);
+	}
+
+	/**
+	 * Same as <code>ListXt.find(Predicate)</code>. Done as soon as a matching
+	 * element is found.
+	 * 
+	 * @param predicate a non-interfering, stateless predicate to apply to elements
+	 * @return a reducer whose result is the first matching element, or null if not
+	 *         found
+	 */
+	static <E> Reducer<E, ?, E> find(Predicate<? super E> predicate) {
+		return new Reducers.BoxReducer<E, E, E>((b, e) -> {
+			if (!b.present && predicate.test(e))
+				b.set(e);
+		}, (x, y) -> x.present ? x : y, b -> b.present, b -> b.value);
+	}
+}
@@ -0,0 +1,83 @@
+package javax.util;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of the reducers returned by <code>Reducer</code> factory
+ * methods.
+ *
+ * @author luca vercelli 2022
+ *
+ */
+final class Reducers {
+
+	private Reducers() {
+	}
+
+	/**
+	 * Mutable accumulation state, holding an optional value and a counter.
+	 */
+	static final class Box<T> {
+
+		T value;
+		boolean present;
+		long count;
+
+		void set(T value) {
+			this.value = value;
+			present = true;
+		}
+	}
+
+	static final class BoxReducer<E, T, R> implements Reducer<E, Box<T>, R> {
+
+		private final BiConsumer<Box<T>, E> accumulator;
+		private final BinaryOperator<Box<T>> combiner;
+		private final Predicate<Box<T>> done;
+		private final Function<Box<T>, R> finisher;
+
+		BoxReducer(BiConsumer<Box<T>, E> accumulator, BinaryOperator<Box<T>> combiner, Predicate<Box<T>> done,
+				Function<Box<T>, R> finisher) {
+			this.accumulator = accumulator;
+			this.combiner = combiner;
+			this.done = done;
+			this.finisher = finisher;
+		}
+
+		@Override
+		public Supplier<Box<T>> supplier() {
+			return Box::new;
+		}
+
+		@Override
+		public BiConsumer<Box<T>, E> accumulator() {
+			return accumulator;
+		}
+
+		@Override
+		public BinaryOperator<Box<T>> combiner() {
+			return combiner;
+		}
+
+		@Override
+		public Function<Box<T>, R> finisher() {
+			return finisher;
+		}
+
+		@Override
+		public Set<Characteristics> characteristics() {
+			return Collections.emptySet();
+		}
+
+		@Override
+		public boolean isDone(Box<T> state) {
+			return done.test(state);
+		}
+	}
+}
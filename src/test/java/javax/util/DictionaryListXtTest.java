@@ -0,0 +1,100 @@
+package javax.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DictionaryListXtTest {
+
+	DictionaryListXt<String> l;
+
+	@BeforeEach
+	public void setUp() {
+		String[] array = new String[] { "IT", "FR", "IT", "DE", "FR", "IT", "ES", "DE" };
+		l = new DictionaryListXt<>(array);
+	}
+
+	@Test
+	public void testListMethods() {
+		assertEquals(new ArrayListXt<>(new String[] { "IT", "FR", "IT", "DE", "FR", "IT", "ES", "DE" }), l);
+		assertEquals(4, l.dictionarySize());
+		l.add(1, "PT");
+		l.set(0, "DE");
+		assertEquals("FR", l.remove(2));
+		assertEquals(new ArrayListXt<>(new String[] { "DE", "PT", "IT", "DE", "FR", "IT", "ES", "DE" }), l);
+		assertEquals(4, l.indexOf("FR"));
+		assertTrue(l.contains("ES"));
+		assertFalse(l.contains("UK"));
+	}
+
+	@Test
+	public void testWiden() {
+		DictionaryListXt<Integer> d = new DictionaryListXt<>();
+		int n = 70000;
+		for (int i = 0; i < n; ++i)
+			d.add(i);
+		assertEquals(n, d.size());
+		assertEquals(n, d.dictionarySize());
+		for (int i = 0; i < n; i += 997)
+			assertEquals(i, d.get(i));
+		assertEquals(255, d.get(255));
+		assertEquals(65535, d.get(65535));
+	}
+
+	@Test
+	public void testFilter() {
+		AtomicInteger calls = new AtomicInteger();
+		ListXt<String> filtered = l.filter(x -> {
+			calls.incrementAndGet();
+			return x.compareTo("FR") >= 0;
+		});
+		assertEquals(new ArrayListXt<>(new String[] { "IT", "FR", "IT", "FR", "IT" }), filtered);
+		assertEquals(4, calls.get());
+	}
+
+	@Test
+	public void testFind() {
+		assertEquals("DE", l.find(x -> x.startsWith("D")));
+		assertEquals(3, l.findIndex(x -> x.startsWith("D")));
+		assertNull(l.find(x -> x.isEmpty()));
+		assertTrue(l.allMatch(x -> x.length() == 2));
+		assertFalse(l.anyMatch(x -> x.length() == 3));
+	}
+
+	@Test
+	public void testDistinct() {
+		assertEquals(new ArrayListXt<>(new String[] { "IT", "FR", "DE", "ES" }), l.distinct());
+	}
+
+	@Test
+	public void testMap() {
+		ListXt<Character> mapped = l.map(x -> x.charAt(1));
+		assertEquals(new ArrayListXt<>(new Character[] { 'T', 'R', 'T', 'E', 'R', 'T', 'S', 'E' }), mapped);
+	}
+
+	@Test
+	public void testClassify() {
+		TreeMap<Character, ListXt<String>> groups = l.classify(x -> x.charAt(0));
+		assertEquals(4, groups.size());
+		assertEquals(new ArrayListXt<>(new String[] { "IT", "IT", "IT" }), groups.get('I'));
+		assertEquals(new ArrayListXt<>(new String[] { "DE", "DE" }), groups.get('D'));
+	}
+
+	@Test
+	public void testSharedDictionary() {
+		DictionaryListXt<String> filtered = l.filter(x -> x.equals("IT"));
+		filtered.add("UK");
+		l.add("NL");
+		assertEquals(new ArrayListXt<>(new String[] { "IT", "IT", "IT", "UK" }), filtered);
+		assertEquals("NL", l.get(8));
+		assertFalse(l.contains("UK"));
+		assertFalse(filtered.contains("NL"));
+	}
+}
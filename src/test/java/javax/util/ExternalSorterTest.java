@@ -0,0 +1,124 @@
+package javax.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ExternalSorterTest {
+
+	@TempDir
+	File tempDirectory;
+
+	ListXt<Integer> l;
+
+	@BeforeEach
+	public void setUp() {
+		l = new ArrayListXt<>();
+		Random random = new Random(42);
+		for (int i = 0; i < 1000; ++i)
+			l.add(random.nextInt(300));
+	}
+
+	@Test
+	public void testSorted() {
+		ExternalSorter<Integer> sorter = new ExternalSorter<>(ElementSerializer.integers(), null, 50, tempDirectory);
+		ListXt<Integer> sorted = collect(l.sorted(sorter));
+		ListXt<Integer> expected = new ArrayListXt<>(l);
+		expected.sort(null);
+		assertEquals(expected, sorted);
+		assertEquals(0, tempDirectory.list().length);
+	}
+
+	@Test
+	public void testSortedMultiPass() {
+		// 100 runs, merged 3 at a time
+		ExternalSorter<Integer> sorter = new ExternalSorter<>(ElementSerializer.integers(), Comparator.reverseOrder(),
+				10, 3, tempDirectory);
+		ListXt<Integer> sorted = collect(l.sorted(sorter));
+		ListXt<Integer> expected = new ArrayListXt<>(l);
+		expected.sort(Comparator.reverseOrder());
+		assertEquals(expected, sorted);
+		assertEquals(0, tempDirectory.list().length);
+	}
+
+	@Test
+	public void testInMemory() {
+		ExternalSorter<Integer> sorter = new ExternalSorter<>(ElementSerializer.integers(), null, 5000, tempDirectory);
+		assertEquals(l.sorted(), collect(l.sorted(sorter)));
+		assertFalse(new ArrayListXt<Integer>().sorted(sorter).hasNext());
+	}
+
+	@Test
+	public void testDistinct() {
+		ExternalSorter<Integer> sorter = new ExternalSorter<>(ElementSerializer.integers(), null, 50, 4,
+				tempDirectory);
+		ListXt<Integer> distinct = collect(l.distinct(sorter));
+		assertEquals(l.distinct().sorted(), distinct);
+		assertEquals(0, tempDirectory.list().length);
+	}
+
+	@Test
+	public void testStrings() {
+		ListXt<String> s = l.map(x -> "s" + x);
+		ExternalSorter<String> sorter = new ExternalSorter<>(ElementSerializer.strings(), null, 64, tempDirectory);
+		assertEquals(s.sorted(), collect(s.sorted(sorter)));
+
+		ExternalSorter<String> serializable = new ExternalSorter<>(ElementSerializer.serializable(), null, 64,
+				tempDirectory);
+		assertEquals(s.distinct().sorted(), collect(s.distinct(serializable)));
+	}
+
+	@Test
+	public void testClose() {
+		ExternalSorter<Integer> sorter = new ExternalSorter<>(ElementSerializer.integers(), null, 50, tempDirectory);
+		ExternalSorter.SortedIterator<Integer> it = l.sorted(sorter);
+		it.next();
+		assertTrue(tempDirectory.list().length > 0);
+		it.close();
+		assertFalse(it.hasNext());
+		assertEquals(0, tempDirectory.list().length);
+	}
+
+	@Test
+	public void testSpillFailure() {
+		// fail while writing the second merge pass: 100 runs of 10, merged 3 at a time
+		AtomicInteger writes = new AtomicInteger();
+		ElementSerializer<Integer> failing = new ElementSerializer<Integer>() {
+			@Override
+			public void write(DataOutput out, Integer element) throws IOException {
+				if (writes.incrementAndGet() > 1500)
+					throw new IOException("disk full");
+				out.writeInt(element);
+			}
+
+			@Override
+			public Integer read(DataInput in) throws IOException {
+				return in.readInt();
+			}
+		};
+		ExternalSorter<Integer> sorter = new ExternalSorter<>(failing, null, 10, 3, tempDirectory);
+		assertThrows(UncheckedIOException.class, () -> l.sorted(sorter));
+		assertEquals(0, tempDirectory.list().length);
+	}
+
+	private static <E> ListXt<E> collect(ExternalSorter.SortedIterator<E> it) {
+		ListXt<E> l = new ArrayListXt<>();
+		while (it.hasNext())
+			l.add(it.next());
+		return l;
+	}
+}
@@ -0,0 +1,105 @@
+package javax.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IntListXtTest {
+
+	IntListXt l;
+	IntListXt e;
+
+	@BeforeEach
+	public void setUp() {
+		l = new IntListXt(new int[] { 3, 10, -2, 1, 7, 6, 6, 15 });
+		e = new IntListXt();
+	}
+
+	@Test
+	public void testListMethods() {
+		assertEquals(new ArrayListXt<>(new Integer[] { 3, 10, -2, 1, 7, 6, 6, 15 }), l);
+		l.add(0, 4);
+		assertEquals(4, l.getInt(0));
+		assertEquals(3, l.remove(1));
+		l.set(1, 11);
+		assertEquals(11, l.get(1));
+		assertEquals(8, l.size());
+		assertTrue(l.contains(15));
+		assertFalse(l.contains(15L));
+		assertThrows(IndexOutOfBoundsException.class, () -> l.getInt(8));
+	}
+
+	@Test
+	public void testSum() {
+		assertEquals(46, l.sum());
+		assertEquals(0, e.sum());
+
+		IntListXt big = IntListXt.sequence(Integer.MAX_VALUE, 3);
+		assertEquals(3L * Integer.MAX_VALUE, big.sum());
+		assertThrows(ArithmeticException.class, () -> big.sumExact());
+	}
+
+	@Test
+	public void testMinMax() {
+		assertEquals(15, l.max());
+		assertEquals(-2, l.min());
+		assertNull(e.max());
+		assertNull(e.min());
+		assertThrows(IllegalArgumentException.class, () -> e.minInt());
+	}
+
+	@Test
+	public void testSorted() {
+		assertEquals(new ArrayListXt<>(new Integer[] { -2, 1, 3, 6, 6, 7, 10, 15 }), l.sorted());
+		assertEquals(0, e.sorted().size());
+
+		// sparse values, including extremes, go through radix sort
+		int[] array = new Random(42).ints(1000).toArray();
+		array[0] = Integer.MIN_VALUE;
+		array[1] = Integer.MAX_VALUE;
+		int[] expected = array.clone();
+		Arrays.sort(expected);
+		assertArrayEquals(expected, new IntListXt(array).sorted().toIntArray());
+	}
+
+	@Test
+	public void testDistinct() {
+		assertEquals(new ArrayListXt<>(new Integer[] { 3, 10, -2, 1, 7, 6, 15 }), l.distinct());
+		assertEquals(0, e.distinct().size());
+
+		IntListXt sparse = new IntListXt(new int[] { Integer.MAX_VALUE, 0, Integer.MIN_VALUE, 0, Integer.MAX_VALUE });
+		assertEquals(new ArrayListXt<>(new Integer[] { Integer.MAX_VALUE, 0, Integer.MIN_VALUE }), sparse.distinct());
+	}
+
+	@Test
+	public void testContainsAll() {
+		assertTrue(l.containsAll(l.sorted()));
+		IntListXt other = l.mapInt(x -> x + 1);
+		assertFalse(l.containsAll(other));
+
+		// larger collections go through a hash set
+		IntListXt large = l.mapInt(x -> x * 1000);
+		large.addAll(l);
+		ListXt<Integer> expected = new ArrayListXt<>(large).sorted();
+		assertEquals(16, expected.size());
+		assertTrue(large.containsAll(expected));
+		large.set(0, 1);
+		assertFalse(large.containsAll(expected));
+	}
+
+	@Test
+	public void testFilterMap() {
+		assertEquals(new ArrayListXt<>(new Integer[] { 10, 7, 6, 6, 15 }), l.filterInt(x -> x > 3));
+		assertEquals(new ArrayListXt<>(new Integer[] { 6, 20, -4, 2, 14, 12, 12, 30 }), l.mapInt(x -> 2 * x));
+		assertEquals(0, e.mapInt(x -> 2 * x).size());
+	}
+}
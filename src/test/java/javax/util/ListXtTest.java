@@ -1,10 +1,20 @@
 package javax.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -109,4 +119,120 @@ public class ListXtTest {
 		assertNotNull(sorted);
 		assertEquals(0, sorted.size());
 	}
+
+	@Test
+	public void testJoin() {
+		ListXt<String> names = new ArrayListXt<>(new String[] { "minus two", "six", "three", "ten", "twelve" });
+		// unsorted keys: hash strategy
+		ListXt<String> joined = l.join(names, x -> x, s -> s.length(), (x, s) -> x + "=" + s);
+		assertEquals(new ArrayListXt<>(new String[] { "3=six", "3=ten", "6=twelve", "6=twelve" }), joined);
+		// smaller left list
+		joined = names.join(l, s -> s.length(), x -> x, (s, x) -> s + "=" + x);
+		assertEquals(new ArrayListXt<>(new String[] { "six=3", "ten=3", "twelve=6", "twelve=6" }), joined);
+
+		// sorted keys: merge strategy
+		ListXt<Integer> sorted = l.sorted();
+		ListXt<Integer> other = new ArrayListXt<>(new Integer[] { 1, 3, 6, 8, 10 });
+		joined = sorted.join(other, x -> x, y -> y, (x, y) -> x + "=" + y);
+		assertEquals(new ArrayListXt<>(new String[] { "1=1", "3=3", "6=6", "6=6", "10=10" }), joined);
+
+		assertEquals(0, e.join(names, x -> x, s -> s.length(), (x, s) -> x + "=" + s).size());
+	}
+
+	@Test
+	public void testJoinKeyEquality() {
+		// sorted keys of different classes are never equal
+		ListXt<Integer> ints = new ArrayListXt<>(new Integer[] { 1, 2, 3 });
+		ListXt<Long> longs = new ArrayListXt<>(new Long[] { 1L, 2L, 3L });
+		assertEquals(0, ints.join(longs, x -> x, y -> y, (x, y) -> x).size());
+		assertEquals(0, ints.join(longs.sorted(Comparator.reverseOrder()), x -> x, y -> y, (x, y) -> x).size());
+
+		// compareTo and equals disagree: sorted or not, only equals matters
+		ListXt<BigDecimal> left = new ArrayListXt<>(new BigDecimal[] { new BigDecimal("1.0"), new BigDecimal("2") });
+		ListXt<BigDecimal> right = new ArrayListXt<>(new BigDecimal[] { new BigDecimal("1.00"), new BigDecimal("2") });
+		ListXt<String> expected = new ArrayListXt<>(new String[] { "2=2" });
+		assertEquals(expected, left.join(right, x -> x, y -> y, (x, y) -> x + "=" + y));
+		ListXt<BigDecimal> unsorted = left.sorted(Comparator.reverseOrder());
+		assertEquals(expected, unsorted.join(right, x -> x, y -> y, (x, y) -> x + "=" + y));
+		assertEquals(new ArrayListXt<>(new BigDecimal[] { new BigDecimal("1.0") }),
+				left.antiJoin(right, x -> x, y -> y));
+	}
+
+	@Test
+	public void testLeftJoin() {
+		ListXt<String> names = new ArrayListXt<>(new String[] { "one", "seven", "fifteen" });
+		ListXt<String> joined = l.leftJoin(names, x -> x, s -> s.length(), (x, s) -> x + "=" + s);
+		assertEquals(new ArrayListXt<>(
+				new String[] { "3=one", "10=null", "-2=null", "1=null", "7=fifteen", "6=null", "6=null", "15=null" }),
+				joined);
+	}
+
+	@Test
+	public void testSemiAntiJoin() {
+		ListXt<Integer> other = new ArrayListXt<>(new Integer[] { 6, 15, 6, 100 });
+		assertEquals(new ArrayListXt<>(new Integer[] { 6, 6, 15 }), l.semiJoin(other, x -> x, y -> y));
+		assertEquals(new ArrayListXt<>(new Integer[] { 3, 10, -2, 1, 7 }), l.antiJoin(other, x -> x, y -> y));
+		assertEquals(l, l.antiJoin(e, x -> x, y -> y));
+	}
+
+	@Test
+	public void testJoinParallel() {
+		ListXt<Integer> big = new ArrayListXt<>();
+		for (int i = 0; i < 20000; ++i)
+			big.add((i * 7919) % 20000);
+		ListXt<Integer> joined = big.join(l, x -> x % 16, y -> y, (x, y) -> x, true);
+		ListXt<Integer> expected = big.join(l, x -> x % 16, y -> y, (x, y) -> x, false);
+		assertEquals(expected, joined);
+		assertEquals(big.filter(x -> l.contains(x % 16)), big.semiJoin(l, x -> x % 16, y -> y, true));
+	}
+
+	@Test
+	public void testAggregate() {
+		Reducer<Integer, ?, Integer> max = Reducer.max(Comparator.naturalOrder());
+		Reducer<Integer, ?, Integer> min = Reducer.min(Comparator.naturalOrder());
+		Reducer<Integer, ?, Long> count = Reducer.count(x -> x > 5);
+		Reducer<Integer, ?, Integer> sum = Reducer.reduce(Integer::sum);
+		Collector<Integer, ?, Double> avg = Collectors.averagingInt(x -> x);
+		Aggregates result = l.aggregate(Arrays.asList(max, min, count, sum, avg));
+		assertEquals(5, result.size());
+		assertEquals(15, result.get(max));
+		assertEquals(-2, result.get(min));
+		assertEquals(5L, result.get(count));
+		assertEquals(46, result.get(sum));
+		assertEquals(5.75, result.get(avg));
+
+		result = e.aggregate(Arrays.asList(max, count));
+		assertNull(result.get(max));
+		assertEquals(0L, result.get(count));
+		assertThrows(IllegalArgumentException.class, () -> e.aggregate(Collections.singletonList(max)).get(min));
+	}
+
+	@Test
+	public void testAggregateShortCircuit() {
+		AtomicInteger calls = new AtomicInteger();
+		Reducer<Integer, ?, Integer> find = Reducer.find(x -> calls.incrementAndGet() > 0 && x > 6);
+		Reducer<Integer, ?, Boolean> any = Reducer.anyMatch(x -> x < 0);
+		Reducer<Integer, ?, Boolean> all = Reducer.allMatch(x -> x > 0);
+		Aggregates result = l.aggregate(Arrays.asList(find, any, all));
+		assertEquals(10, result.get(find));
+		assertTrue(result.get(any));
+		assertFalse(result.get(all));
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	public void testAggregateParallel() {
+		ListXt<Integer> big = new ArrayListXt<>();
+		for (int i = 0; i < 50000; ++i)
+			big.add((i * 7919) % 50000);
+		Reducer<Integer, ?, Integer> max = Reducer.max(Comparator.naturalOrder());
+		Reducer<Integer, ?, Long> count = Reducer.count(x -> x % 3 == 0);
+		Reducer<Integer, ?, Integer> find = Reducer.find(x -> x > 49990);
+		Collector<Integer, ?, Long> sum = Collectors.summingLong(x -> x);
+		Aggregates result = big.aggregateParallel(Arrays.asList(max, count, find, sum));
+		assertEquals(49999, result.get(max));
+		assertEquals(big.filter(x -> x % 3 == 0).size(), result.get(count));
+		assertEquals(big.find(x -> x > 49990), result.get(find));
+		assertEquals(50000L * 49999 / 2, result.get(sum));
+	}
 }
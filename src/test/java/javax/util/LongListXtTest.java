@@ -0,0 +1,114 @@
+package javax.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LongListXtTest {
+
+	LongListXt l;
+	LongListXt e;
+
+	@BeforeEach
+	public void setUp() {
+		l = new LongListXt(new long[] { 3L, 10L, -2L, 1L, 7L, 6L, 6L, 15L });
+		e = new LongListXt();
+	}
+
+	@Test
+	public void testListMethods() {
+		assertEquals(new ArrayListXt<>(new Long[] { 3L, 10L, -2L, 1L, 7L, 6L, 6L, 15L }), l);
+		l.add(0, 4L);
+		assertEquals(4, l.getLong(0));
+		assertEquals(3, l.remove(1));
+		l.set(1, 11L);
+		assertEquals(11, l.get(1));
+		assertEquals(8, l.size());
+		assertTrue(l.contains(15L));
+		assertFalse(l.contains(15));
+		assertThrows(IndexOutOfBoundsException.class, () -> l.getLong(8));
+	}
+
+	@Test
+	public void testSum() {
+		assertEquals(46, l.sum());
+		assertEquals(0, e.sum());
+
+		LongListXt big = LongListXt.sequence(Long.MAX_VALUE / 2, 2);
+		assertEquals(Long.MAX_VALUE - 1, big.sum());
+		big.addLong(2);
+		assertThrows(ArithmeticException.class, () -> big.sum());
+
+		// partial sums overflow, but the total fits
+		assertEquals(Long.MAX_VALUE, new LongListXt(new long[] { Long.MAX_VALUE, 1, -1 }).sum());
+		assertEquals(Long.MAX_VALUE, new LongListXt(new long[] { -1, Long.MAX_VALUE, 1 }).sum());
+		assertEquals(Long.MIN_VALUE, new LongListXt(new long[] { Long.MIN_VALUE, -1, 1 }).sum());
+		assertEquals(-1, new LongListXt(new long[] { Long.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, 1 }).sum());
+		assertThrows(ArithmeticException.class,
+				() -> new LongListXt(new long[] { Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE }).sum());
+	}
+
+	@Test
+	public void testMinMax() {
+		assertEquals(15, l.max());
+		assertEquals(-2, l.min());
+		assertNull(e.max());
+		assertNull(e.min());
+		assertThrows(IllegalArgumentException.class, () -> e.minLong());
+	}
+
+	@Test
+	public void testSorted() {
+		assertEquals(new ArrayListXt<>(new Long[] { -2L, 1L, 3L, 6L, 6L, 7L, 10L, 15L }), l.sorted());
+		assertEquals(0, e.sorted().size());
+
+		// sparse values, including extremes, go through radix sort
+		long[] array = new Random(42).longs(1000).toArray();
+		array[0] = Long.MIN_VALUE;
+		array[1] = Long.MAX_VALUE;
+		long[] expected = array.clone();
+		Arrays.sort(expected);
+		assertArrayEquals(expected, new LongListXt(array).sorted().toLongArray());
+	}
+
+	@Test
+	public void testDistinct() {
+		assertEquals(new ArrayListXt<>(new Long[] { 3L, 10L, -2L, 1L, 7L, 6L, 15L }), l.distinct());
+		assertEquals(0, e.distinct().size());
+
+		LongListXt sparse = new LongListXt(new long[] { Long.MAX_VALUE, 0L, Long.MIN_VALUE, 0L, Long.MAX_VALUE });
+		assertEquals(new ArrayListXt<>(new Long[] { Long.MAX_VALUE, 0L, Long.MIN_VALUE }), sparse.distinct());
+	}
+
+	@Test
+	public void testContainsAll() {
+		assertTrue(l.containsAll(l.sorted()));
+		LongListXt other = l.mapLong(x -> x + 1);
+		assertFalse(l.containsAll(other));
+
+		// larger collections go through a hash set
+		LongListXt large = l.mapLong(x -> x * 1000);
+		large.addAll(l);
+		ListXt<Long> expected = new ArrayListXt<>(large).sorted();
+		assertEquals(16, expected.size());
+		assertTrue(large.containsAll(expected));
+		large.set(0, 1L);
+		assertFalse(large.containsAll(expected));
+	}
+
+	@Test
+	public void testFilterMap() {
+		assertEquals(new ArrayListXt<>(new Long[] { 10L, 7L, 6L, 6L, 15L }), l.filterLong(x -> x > 3));
+		assertEquals(new ArrayListXt<>(new Long[] { 6L, 20L, -4L, 2L, 14L, 12L, 12L, 30L }), l.mapLong(x -> 2 * x));
+		assertEquals(0, e.mapLong(x -> 2 * x).size());
+	}
+}
@@ -0,0 +1,106 @@
+package javax.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NumberMatrixXtTest {
+
+	NumberMatrixXt m;
+
+	@BeforeEach
+	public void setUp() {
+		m = new NumberMatrixXt(2, 3, new double[] { 1, 2, 3, 4, 5, 6 });
+	}
+
+	@Test
+	public void testRowsAndColumns() {
+		assertEquals(new NumberArrayListXt(new Double[] { 4.0, 5.0, 6.0 }), m.row(1));
+		assertEquals(new NumberArrayListXt(new Double[] { 3.0, 6.0 }), m.column(2));
+		assertEquals(15, m.row(1).sum());
+
+		m.column(0).set(1, 10);
+		assertEquals(10, m.get(1, 0));
+	}
+
+	@Test
+	public void testFromRows() {
+		ListXt<NumberListXt> rows = new ArrayListXt<>();
+		rows.add(new NumberArrayListXt(new Integer[] { 1, 2, 3 }));
+		rows.add(new NumberArrayListXt(new Integer[] { 4, 5, 6 }));
+		assertEquals(m, new NumberMatrixXt(rows));
+
+		rows.add(new NumberArrayListXt(new Integer[] { 7 }));
+		assertThrows(IllegalArgumentException.class, () -> new NumberMatrixXt(rows));
+	}
+
+	@Test
+	public void testTranspose() {
+		NumberMatrixXt t = m.transpose();
+		assertEquals(3, t.getRows());
+		assertEquals(2, t.getCols());
+		assertEquals(new NumberMatrixXt(3, 2, new double[] { 1, 4, 2, 5, 3, 6 }), t);
+	}
+
+	@Test
+	public void testMulVector() {
+		NumberListXt x = new NumberArrayListXt(new Integer[] { 1, 0, -1 });
+		assertEquals(new NumberArrayListXt(new Double[] { -2.0, -2.0 }), m.mul(x));
+		assertThrows(IllegalArgumentException.class, () -> m.mul(m.row(0).subList(0, 2)));
+	}
+
+	@Test
+	public void testMulMatrix() {
+		NumberMatrixXt expected = new NumberMatrixXt(2, 2, new double[] { 14, 32, 32, 77 });
+		assertEquals(expected, m.mul(m.transpose()));
+		assertEquals(m, NumberMatrixXt.identity(2).mul(m));
+		assertThrows(IllegalArgumentException.class, () -> m.mul(m));
+	}
+
+	@Test
+	public void testMulLarge() {
+		// larger than a few blocks, and not a multiple of block size
+		NumberMatrixXt a = random(150, 97);
+		NumberMatrixXt b = random(97, 130);
+		NumberMatrixXt c = a.mul(b);
+		NumberMatrixXt cp = a.mul(b, true);
+		for (int i = 0; i < a.getRows(); ++i) {
+			for (int j = 0; j < b.getCols(); ++j) {
+				double expected = a.row(i).mul(b.column(j));
+				assertTrue(Math.abs(c.get(i, j) - expected) < 1e-9);
+				assertTrue(Math.abs(cp.get(i, j) - expected) < 1e-9);
+			}
+		}
+
+		NumberListXt x = b.column(3);
+		NumberListXt y = a.mul(x, true);
+		for (int i = 0; i < a.getRows(); ++i) {
+			assertTrue(Math.abs(c.get(i, 3) - y.get(i).doubleValue()) < 1e-9);
+		}
+	}
+
+	@Test
+	public void testAggregates() {
+		assertEquals(new NumberArrayListXt(new Double[] { 6.0, 15.0 }), m.rowSums());
+		assertEquals(new NumberArrayListXt(new Double[] { 5.0, 7.0, 9.0 }), m.columnSums());
+		assertEquals(new NumberArrayListXt(new Double[] { 2.0, 5.0 }), m.rowAggregate(NumberListXt::avg));
+		assertEquals(new NumberArrayListXt(new Double[] { 4.0, 10.0, 18.0 }),
+				m.columnAggregate(NumberListXt::mul));
+	}
+
+	private static NumberMatrixXt random(int rows, int cols) {
+		Random random = new Random(rows * 31 + cols);
+		NumberMatrixXt r = new NumberMatrixXt(rows, cols);
+		for (int i = 0; i < rows; ++i) {
+			for (int j = 0; j < cols; ++j) {
+				r.set(i, j, random.nextDouble());
+			}
+		}
+		return r;
+	}
+}
@@ -0,0 +1,130 @@
+package javax.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ObservableListXtTest {
+
+	ObservableArrayListXt<Integer> l;
+
+	@BeforeEach
+	public void setUp() {
+		Integer[] array = new Integer[] { 3, 10, -2, 1, 7, 6, 6, 15 };
+		l = new ObservableArrayListXt<>(array);
+	}
+
+	@Test
+	public void testListeners() {
+		ListXt<List<ListChange<Integer>>> received = new ArrayListXt<>();
+		l.addListener(received::add);
+		l.add(4);
+		l.set(0, 5);
+		l.remove(1);
+		assertEquals(3, received.size());
+		assertEquals(ListChange.Type.ADDED, received.get(0).get(0).getType());
+		assertEquals(8, received.get(0).get(0).getIndex());
+		assertEquals(3, received.get(1).get(0).getOldElement());
+		assertEquals(10, received.get(2).get(0).getOldElement());
+
+		received.clear();
+		l.batch(() -> {
+			l.add(0, 1);
+			l.add(0, 2);
+		});
+		l.clear();
+		assertEquals(2, received.size());
+		assertEquals(2, received.get(0).size());
+		assertEquals(10, received.get(1).size());
+	}
+
+	@Test
+	public void testLiveFilter() {
+		LiveListXt<Integer> positive = l.liveFilter(x -> x > 5);
+		assertEquals(new ArrayListXt<>(new Integer[] { 10, 7, 6, 6, 15 }), positive);
+		l.add(20);
+		l.add(0, 8);
+		l.set(4, 9);
+		l.remove(2);
+		l.set(3, -1);
+		assertEquals(l.filter(x -> x > 5), positive);
+
+		positive.close();
+		l.add(30);
+		assertFalse(positive.contains(30));
+	}
+
+	@Test
+	public void testLiveMap() {
+		LiveListXt<Integer> doubled = l.liveMap(x -> 2 * x);
+		LiveListXt<Integer> big = doubled.liveFilter(x -> x > 12);
+		l.batch(() -> {
+			l.add(1, 100);
+			l.set(0, 50);
+			l.remove(3);
+		});
+		assertEquals(l.map(x -> 2 * x), doubled);
+		assertEquals(l.map(x -> 2 * x).filter(x -> x > 12), big);
+	}
+
+	@Test
+	public void testLiveClassify() {
+		LiveClassification<Boolean, Integer> parity = l.liveClassify(x -> x % 2 == 0);
+		assertEquals(l.classify(x -> x % 2 == 0), parity.getGroups());
+		l.add(2, 11);
+		l.set(0, 4);
+		l.removeIf(x -> x % 2 != 0);
+		assertEquals(l.classify(x -> x % 2 == 0), parity.getGroups());
+		assertFalse(parity.getGroups().containsKey(false));
+		l.add(5);
+		assertEquals(new ArrayListXt<>(new Integer[] { 5 }), parity.getGroups().get(false));
+	}
+
+	@Test
+	public void testLiveClassifyTouchesOnlyChangedGroups() {
+		LiveClassification<Integer, Integer> groups = l.liveClassify(x -> Math.floorMod(x, 5));
+		ListXt<List<ListChange<Integer>>> zeros = new ArrayListXt<>();
+		ListXt<List<ListChange<Integer>>> threes = new ArrayListXt<>();
+		groups.getGroups().get(0).addListener(zeros::add);
+		groups.getGroups().get(3).addListener(threes::add);
+		l.add(0, 2);
+		l.set(1, 8);
+		l.set(4, 11);
+		l.remove(3);
+		assertEquals(0, zeros.size());
+		assertEquals(2, threes.size());
+		assertEquals(ListChange.Type.REPLACED, threes.get(0).get(0).getType());
+		assertEquals(0, threes.get(0).get(0).getIndex());
+		assertEquals(ListChange.Type.REMOVED, threes.get(1).get(0).getType());
+		assertEquals(1, threes.get(1).get(0).getIndex());
+		assertEquals(l.classify(x -> Math.floorMod(x, 5)), groups.getGroups());
+	}
+
+	@Test
+	public void testRandomUpdates() {
+		Random random = new Random(42);
+		LiveListXt<Integer> filtered = l.liveFilter(x -> x % 3 == 0);
+		LiveClassification<Integer, Integer> groups = l.liveClassify(x -> Math.floorMod(x, 20));
+		for (int k = 1; k <= 2000; ++k) {
+			int op = random.nextInt(3);
+			int value = random.nextInt(100) - 50;
+			if (op == 0 || l.isEmpty())
+				l.add(random.nextInt(l.size() + 1), value);
+			else if (op == 1)
+				l.set(random.nextInt(l.size()), value);
+			else
+				l.remove(random.nextInt(l.size()));
+			if (k % 100 == 0) {
+				assertEquals(l.filter(x -> x % 3 == 0), filtered);
+				TreeMap<Integer, ListXt<Integer>> expected = l.classify(x -> Math.floorMod(x, 20));
+				assertEquals(expected, groups.getGroups());
+			}
+		}
+	}
+}